@@ -0,0 +1,25 @@
+package acme.components;
+
+import java.util.List;
+
+import org.springframework.data.jpa.repository.Modifying;
+import org.springframework.data.jpa.repository.Query;
+import org.springframework.stereotype.Repository;
+
+import acme.entities.CacheGeneration;
+import acme.framework.repositories.AbstractRepository;
+
+@Repository
+public interface CacheGenerationRepository extends AbstractRepository {
+
+	@Query("select g from CacheGeneration g")
+	List<CacheGeneration> findAllGenerations();
+
+	@Query("select g.generation from CacheGeneration g where g.name = :name")
+	Long findGeneration(String name);
+
+	@Modifying
+	@Query("update CacheGeneration g set g.generation = g.generation + 1 where g.name = :name")
+	int incrementGeneration(String name);
+
+}
@@ -0,0 +1,33 @@
+package acme.components;
+
+/**
+ * Tells every node of the application that a cache it keeps in memory is
+ * stale. The transport is chosen with the acme.cache.invalidation.transport
+ * property: "database" (default) bumps a generation counter that every node
+ * polls, and "local" calls the listeners of this node at once, which is
+ * enough when a single node runs, and in tests.
+ */
+public interface CacheInvalidationChannel {
+
+	// Names of the caches ----------------------------------------------------
+
+	String	SYSTEM_CONFIGURATION	= "system-configuration";
+
+	String	EXCHANGE_RATES			= "exchange-rates";
+
+	// Operations -------------------------------------------------------------
+
+	/**
+	 * Marks the given cache as stale. The listeners of every other node are
+	 * eventually called, within the delay of the transport; the ones of this
+	 * node are not, since the publisher has updated its own cache already.
+	 */
+	void publish(String cache);
+
+	/**
+	 * Registers a listener to be called on this node whenever the given cache
+	 * is published as stale.
+	 */
+	void subscribe(String cache, Runnable listener);
+
+}
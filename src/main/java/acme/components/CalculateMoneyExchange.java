@@ -2,8 +2,9 @@
 package acme.components;
 
 import java.util.Calendar;
-
-import org.springframework.web.client.RestTemplate;
+import java.util.Collection;
+import java.util.Collections;
+import java.util.Date;
 
 import acme.entities.MoneyExchangeCache;
 import acme.forms.MoneyExchange;
@@ -28,12 +29,29 @@ public class CalculateMoneyExchange {
 		return result;
 	}
 
-	public static MoneyExchange computeMoneyExchange(final Money source, final String targetCurrency) {
+	// A rate is fresh until the day it is dated is over, as checkCache tells
+	public static long computeExpiry(final Date date) {
+		assert date != null;
+
+		final Calendar result;
+
+		result = Calendar.getInstance();
+		result.setTime(date);
+		result.set(Calendar.HOUR_OF_DAY, 0);
+		result.set(Calendar.MINUTE, 0);
+		result.set(Calendar.SECOND, 0);
+		result.set(Calendar.MILLISECOND, 0);
+		result.add(Calendar.DATE, 1);
+
+		return result.getTimeInMillis();
+	}
+
+	public static MoneyExchange computeMoneyExchange(final RateProvider provider, final Money source, final String targetCurrency) {
+		assert provider != null;
 		assert source != null;
 		assert !StringHelper.isBlank(targetCurrency);
 
 		MoneyExchange result;
-		RestTemplate api;
 		ExchangeRate record;
 		String sourceCurrency;
 		Double sourceAmount, targetAmount, rate;
@@ -42,17 +60,10 @@ public class CalculateMoneyExchange {
 		final Calendar date = Calendar.getInstance();
 
 		try {
-			api = new RestTemplate();
-
 			sourceCurrency = source.getCurrency();
 			sourceAmount = source.getAmount();
 
-			record = api.getForObject( //
-				"https://api.exchangerate.host/latest?base={0}&symbols={1}", //
-				ExchangeRate.class, //
-				sourceCurrency, //
-				targetCurrency //
-			);
+			record = provider.getLatestRates(sourceCurrency, Collections.singletonList(targetCurrency));
 
 			assert record != null;
 			rate = record.getRates().get(targetCurrency);
@@ -78,19 +89,43 @@ public class CalculateMoneyExchange {
 		return result;
 	}
 
+	public static ExchangeRate computeExchangeRates(final RateProvider provider, final String baseCurrency, final Collection<String> targetCurrencies) {
+		assert provider != null;
+		assert !StringHelper.isBlank(baseCurrency);
+		assert targetCurrencies != null && !targetCurrencies.isEmpty();
+
+		ExchangeRate result;
+
+		try {
+			result = provider.getLatestRates(baseCurrency, targetCurrencies);
+
+			if (result == null || result.getRates() == null || result.getDate() == null)
+				result = null;
+		} catch (final Throwable oops) {
+			result = null;
+		}
+
+		return result;
+	}
+
 	public static MoneyExchange calculateMoneyExchangeFromCache(final Money source, final String targetCurrency, final MoneyExchangeCache cache) {
 		assert source != null;
 		assert !StringHelper.isBlank(targetCurrency);
+		assert cache != null;
+
+		return CalculateMoneyExchange.calculateMoneyExchangeFromRate(source, targetCurrency, cache.getRate(), cache.getDate().getTime());
+	}
+
+	public static MoneyExchange calculateMoneyExchangeFromRate(final Money source, final String targetCurrency, final double rate, final Date date) {
+		assert source != null;
+		assert !StringHelper.isBlank(targetCurrency);
+		assert date != null;
 
 		MoneyExchange result;
-		Double sourceAmount, targetAmount, rate;
+		Double targetAmount;
 		Money target;
 
-		sourceAmount = source.getAmount();
-
-		assert cache != null;
-		rate = cache.getRate();
-		targetAmount = rate * sourceAmount;
+		targetAmount = rate * source.getAmount();
 
 		target = new Money();
 		target.setAmount(targetAmount);
@@ -99,7 +134,7 @@ public class CalculateMoneyExchange {
 		result = new MoneyExchange();
 		result.setSource(source);
 		result.setTargetCurrency(targetCurrency);
-		result.setDate(cache.getDate().getTime());
+		result.setDate(date);
 		result.setTarget(target);
 		result.setRate(rate);
 
@@ -0,0 +1,229 @@
+package acme.components;
+
+import java.util.EnumMap;
+import java.util.HashMap;
+import java.util.List;
+import java.util.Map;
+
+import org.springframework.beans.factory.annotation.Autowired;
+import org.springframework.boot.context.event.ApplicationReadyEvent;
+import org.springframework.context.event.EventListener;
+import org.springframework.stereotype.Component;
+import org.springframework.transaction.support.TransactionSynchronization;
+import org.springframework.transaction.support.TransactionSynchronizationManager;
+
+import acme.entities.Item;
+import acme.entities.ItemType;
+import acme.entities.Toolkit;
+import acme.framework.components.models.Model;
+import acme.framework.controllers.Request;
+import acme.framework.helpers.StringHelper;
+
+/**
+ * Full-text index of the public catalogue. Published items are indexed by
+ * name, technology and description, one index per item type; published
+ * toolkits are indexed by title, description and the names of their items.
+ * The index is built when the application starts and is kept current by the
+ * services that publish, update and delete items and toolkits. Their changes
+ * are read when they are made but applied once the transaction commits, so a
+ * rollback leaves the index as it was; the toolkits that contain an item are
+ * indexed again with it, since its name may have changed.
+ *
+ * A list request searches the index when it has a non-blank "query"
+ * attribute; the query is unbound so that the view can carry it on to the
+ * next page.
+ */
+@Component
+public class CatalogueIndex {
+
+	// Constants --------------------------------------------------------------
+
+	public static final String						QUERY		= "query";
+
+	// Internal state ---------------------------------------------------------
+
+	@Autowired
+	protected CatalogueRepository					repository;
+
+	protected final Map<ItemType, InvertedIndex>	items		= new EnumMap<>(ItemType.class);
+
+	protected final InvertedIndex					toolkits	= new InvertedIndex();
+
+	// Constructors -----------------------------------------------------------
+
+
+	public CatalogueIndex() {
+		for (final ItemType type : ItemType.values())
+			this.items.put(type, new InvertedIndex());
+	}
+
+	// Business methods -------------------------------------------------------
+
+
+	@EventListener(ApplicationReadyEvent.class)
+	public void rebuild() {
+		final Map<ItemType, Map<Integer, String[]>> items;
+		final Map<Integer, String[]> toolkits;
+		Map<Integer, StringBuilder> itemNames;
+		StringBuilder names;
+
+		items = new EnumMap<>(ItemType.class);
+		for (final ItemType type : ItemType.values())
+			items.put(type, new HashMap<>());
+		for (final Item item : this.repository.findPublishedItems())
+			items.get(item.getType()).put(item.getId(), CatalogueIndex.getFields(item));
+
+		itemNames = new HashMap<>();
+		for (final Object[] row : this.repository.findItemNamesOfPublishedToolkits())
+			itemNames.computeIfAbsent((Integer) row[0], id -> new StringBuilder()).append(row[1]).append(' ');
+		toolkits = new HashMap<>();
+		for (final Toolkit toolkit : this.repository.findPublishedToolkits()) {
+			names = itemNames.get(toolkit.getId());
+			toolkits.put(toolkit.getId(), new String[] {
+				toolkit.getTitle(), toolkit.getDescription(), names == null ? "" : names.toString()
+			});
+		}
+
+		// Every index is loaded at once, not a document at a time
+		items.forEach((type, documents) -> this.items.get(type).load(documents));
+		this.toolkits.load(toolkits);
+	}
+
+	public void indexItem(final Item item) {
+		assert item != null;
+
+		final int id = item.getId();
+		final ItemType type = item.getType();
+		final boolean published = item.isPublished();
+		final String[] fields = CatalogueIndex.getFields(item);
+		final Map<Integer, String[]> toolkits = new HashMap<>();
+
+		for (final Toolkit toolkit : this.repository.findPublishedToolkitsByItemId(id))
+			toolkits.put(toolkit.getId(), this.getFields(toolkit));
+
+		this.afterCommit(() -> {
+			this.unindexItem(id);
+			if (published)
+				this.items.get(type).put(id, fields);
+			toolkits.forEach(this.toolkits::put);
+		});
+	}
+
+	public void removeItem(final Item item) {
+		assert item != null;
+
+		final int id = item.getId();
+
+		this.afterCommit(() -> this.unindexItem(id));
+	}
+
+	public void indexToolkit(final Toolkit toolkit) {
+		assert toolkit != null;
+
+		final int id = toolkit.getId();
+		final String[] fields = toolkit.isDraftMode() ? null : this.getFields(toolkit);
+
+		this.afterCommit(() -> {
+			if (fields == null)
+				this.toolkits.remove(id);
+			else
+				this.toolkits.put(id, fields);
+		});
+	}
+
+	public void removeToolkit(final Toolkit toolkit) {
+		assert toolkit != null;
+
+		final int id = toolkit.getId();
+
+		this.afterCommit(() -> this.toolkits.remove(id));
+	}
+
+	public List<Integer> searchItems(final ItemType type, final String query, final int cursor, final int size) {
+		assert type != null;
+
+		return this.items.get(type).search(query, cursor, size);
+	}
+
+	public List<Integer> searchToolkits(final String query, final int cursor, final int size) {
+		return this.toolkits.search(query, cursor, size);
+	}
+
+	public boolean hasQuery(final Request<?> request) {
+		assert request != null;
+
+		return !StringHelper.isBlank(this.getQuery(request));
+	}
+
+	public String getQuery(final Request<?> request) {
+		assert request != null;
+
+		String result;
+
+		if (request.getModel().hasAttribute(CatalogueIndex.QUERY))
+			result = (String) request.getModel().getAttribute(CatalogueIndex.QUERY);
+		else
+			result = null;
+
+		return result;
+	}
+
+	public void unbindQuery(final Request<?> request, final Model model) {
+		assert request != null;
+		assert model != null;
+
+		// The view encodes it when it links to the next page
+		model.setAttribute(CatalogueIndex.QUERY, this.hasQuery(request) ? this.getQuery(request) : "");
+	}
+
+	public int getIndexedItems() {
+		int result;
+
+		result = 0;
+		for (final InvertedIndex index : this.items.values())
+			result += index.size();
+
+		return result;
+	}
+
+	public int getIndexedToolkits() {
+		return this.toolkits.size();
+	}
+
+	// Ancillary methods ------------------------------------------------------
+
+
+	protected void unindexItem(final int id) {
+		// The type of the item may have changed since it was indexed
+		for (final InvertedIndex index : this.items.values())
+			index.remove(id);
+	}
+
+	protected static String[] getFields(final Item item) {
+		return new String[] {
+			item.getName(), item.getTechnology(), item.getDescription()
+		};
+	}
+
+	protected String[] getFields(final Toolkit toolkit) {
+		final List<String> itemNames = this.repository.findItemNamesOfToolkit(toolkit.getId());
+
+		return new String[] {
+			toolkit.getTitle(), toolkit.getDescription(), String.join(" ", itemNames)
+		};
+	}
+
+	protected void afterCommit(final Runnable update) {
+		if (!TransactionSynchronizationManager.isSynchronizationActive())
+			update.run();
+		else
+			TransactionSynchronizationManager.registerSynchronization(new TransactionSynchronization() {
+
+				@Override
+				public void afterCommit() {
+					update.run();
+				}
+			});
+	}
+
+}
@@ -0,0 +1,31 @@
+package acme.components;
+
+import java.util.Collection;
+import java.util.List;
+
+import org.springframework.data.jpa.repository.Query;
+import org.springframework.stereotype.Repository;
+
+import acme.entities.Item;
+import acme.entities.Toolkit;
+import acme.framework.repositories.AbstractRepository;
+
+@Repository
+public interface CatalogueRepository extends AbstractRepository {
+
+	@Query("select i from Item i where i.published = true")
+	Collection<Item> findPublishedItems();
+
+	@Query("select t from Toolkit t where t.draftMode = false")
+	Collection<Toolkit> findPublishedToolkits();
+
+	@Query("select iq.toolkit.id, i.name from ItemQuantity iq join iq.item i where iq.toolkit.draftMode = false")
+	Collection<Object[]> findItemNamesOfPublishedToolkits();
+
+	@Query("select distinct iq.toolkit from ItemQuantity iq where iq.item.id = :id and iq.toolkit.draftMode = false")
+	Collection<Toolkit> findPublishedToolkitsByItemId(int id);
+
+	@Query("select i.name from ItemQuantity iq join iq.item i where iq.toolkit.id = :id")
+	List<String> findItemNamesOfToolkit(int id);
+
+}
@@ -0,0 +1,83 @@
+package acme.components;
+
+/**
+ * Minimal circuit breaker. After a number of consecutive failures the circuit
+ * opens and calls are refused for a cool-down period; then a single trial
+ * call is let through, and its outcome closes or re-opens the circuit.
+ */
+public class CircuitBreaker {
+
+	// Internal state ---------------------------------------------------------
+
+	public enum State {
+		CLOSED, OPEN, HALF_OPEN
+	}
+
+
+	protected final int		failureThreshold;
+	protected final long	openDuration;
+
+	protected State			state;
+	protected int			failures;
+	protected long			openedAt;
+
+	// Constructors -----------------------------------------------------------
+
+
+	public CircuitBreaker(final int failureThreshold, final long openDuration) {
+		assert failureThreshold > 0;
+		assert openDuration >= 0;
+
+		this.failureThreshold = failureThreshold;
+		this.openDuration = openDuration;
+		this.state = State.CLOSED;
+		this.failures = 0;
+		this.openedAt = 0L;
+	}
+
+	// Business methods -------------------------------------------------------
+
+
+	public synchronized State getState() {
+		return this.state;
+	}
+
+	public synchronized boolean allowRequest() {
+		boolean result;
+
+		switch (this.state) {
+		case CLOSED:
+			result = true;
+			break;
+		case OPEN:
+			result = System.currentTimeMillis() - this.openedAt >= this.openDuration;
+			if (result)
+				this.state = State.HALF_OPEN;
+			break;
+		default:
+			// A trial call is already in flight
+			result = false;
+			break;
+		}
+
+		return result;
+	}
+
+	public synchronized boolean isAvailable() {
+		return this.state == State.CLOSED || this.state == State.OPEN && System.currentTimeMillis() - this.openedAt >= this.openDuration;
+	}
+
+	public synchronized void recordSuccess() {
+		this.state = State.CLOSED;
+		this.failures = 0;
+	}
+
+	public synchronized void recordFailure() {
+		this.failures++;
+		if (this.state == State.HALF_OPEN || this.failures >= this.failureThreshold) {
+			this.state = State.OPEN;
+			this.openedAt = System.currentTimeMillis();
+		}
+	}
+
+}
@@ -0,0 +1,81 @@
+package acme.components;
+
+import java.util.List;
+
+import javax.persistence.LockModeType;
+
+import org.springframework.data.jpa.repository.Lock;
+import org.springframework.data.jpa.repository.Modifying;
+import org.springframework.data.jpa.repository.Query;
+import org.springframework.stereotype.Repository;
+import org.springframework.transaction.annotation.Propagation;
+import org.springframework.transaction.annotation.Transactional;
+
+import acme.entities.DashboardStatistic;
+import acme.entities.DashboardStatisticKind;
+import acme.entities.ItemType;
+import acme.entities.PatronageStatus;
+import acme.framework.repositories.AbstractRepository;
+
+@Repository
+public interface DashboardStatisticsRepository extends AbstractRepository {
+
+	@Lock(LockModeType.PESSIMISTIC_WRITE)
+	@Query("select s from DashboardStatistic s where s.kind = :kind and s.patronId = :patronId and s.status = :status and s.itemType = :itemType and s.technology = :technology and s.currency = :currency order by s.sampleSize desc")
+	List<DashboardStatistic> findStatisticsForUpdate(DashboardStatisticKind kind, int patronId, String status, String itemType, String technology, String currency);
+
+	@Query("select s from DashboardStatistic s where s.kind = :kind order by s.currency, s.technology, s.itemType, s.status")
+	List<DashboardStatistic> findStatisticsByKind(DashboardStatisticKind kind);
+
+	@Query("select s from DashboardStatistic s where s.kind = acme.entities.DashboardStatisticKind.PATRONAGE_BUDGET and s.patronId = :patronId")
+	List<DashboardStatistic> findPatronageStatisticsByPatronId(int patronId);
+
+	@Query("select count(s) from DashboardStatistic s")
+	long countStatistics();
+
+	@Modifying
+	@Query("delete from DashboardStatistic s")
+	void deleteAllStatistics();
+
+	// Values of an entity as they are stored, read in a transaction of their own
+	// so that the values bound to the entity are not flushed before
+
+	@Transactional(propagation = Propagation.REQUIRES_NEW, readOnly = true)
+	@Query("select p.patron.id, p.status, p.budget.currency, p.budget.amount from Patronage p where p.id = :id")
+	List<Object[]> findStoredPatronage(int id);
+
+	@Transactional(propagation = Propagation.REQUIRES_NEW, readOnly = true)
+	@Query("select i.type, i.technology, i.retailPrice.currency, i.retailPrice.amount from Item i where i.id = :id")
+	List<Object[]> findStoredItem(int id);
+
+	// Only while the chimpum is linked to an item
+	@Transactional(propagation = Propagation.REQUIRES_NEW, readOnly = true)
+	@Query("select c.budget.currency, c.budget.amount from Item i join i.chimpum c where c.id = :id")
+	List<Object[]> findStoredChimpum(int id);
+
+	// Bounds of the values left in a group once a value is removed from it
+
+	@Query("select min(p.budget.amount), max(p.budget.amount) from Patronage p where p.patron.id = :patronId and p.status = :status and p.budget.currency = :currency and p.id <> :id")
+	List<Object[]> findPatronageBudgetBounds(int patronId, PatronageStatus status, String currency, int id);
+
+	@Query("select min(i.retailPrice.amount), max(i.retailPrice.amount) from Item i where i.type = :type and i.technology = :technology and i.retailPrice.currency = :currency and i.id <> :id")
+	List<Object[]> findItemPriceBounds(ItemType type, String technology, String currency, int id);
+
+	@Query("select min(c.budget.amount), max(c.budget.amount) from Item i join i.chimpum c where c.budget.currency = :currency and c.id <> :id")
+	List<Object[]> findChimpumBudgetBounds(String currency, int id);
+
+	@Query("select count(i) from Item i where i.chimpum.id = :id")
+	long countItemsByChimpumId(int id);
+
+	// Every row of a group: the dimensions, then count, average, deviation, minimum and maximum
+
+	@Query("select p.patron.id, p.status, p.budget.currency, count(p), avg(p.budget.amount), stddev(p.budget.amount), min(p.budget.amount), max(p.budget.amount) from Patronage p group by p.patron.id, p.status, p.budget.currency")
+	List<Object[]> computePatronageStatistics();
+
+	@Query("select i.type, i.technology, i.retailPrice.currency, count(i), avg(i.retailPrice.amount), stddev(i.retailPrice.amount), min(i.retailPrice.amount), max(i.retailPrice.amount) from Item i group by i.type, i.technology, i.retailPrice.currency")
+	List<Object[]> computeItemStatistics();
+
+	@Query("select c.budget.currency, count(i), avg(c.budget.amount), stddev(c.budget.amount), min(c.budget.amount), max(c.budget.amount) from Item i join i.chimpum c group by c.budget.currency")
+	List<Object[]> computeChimpumStatistics();
+
+}
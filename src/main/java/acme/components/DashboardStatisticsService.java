@@ -0,0 +1,290 @@
+package acme.components;
+
+import java.util.EnumMap;
+import java.util.LinkedHashMap;
+import java.util.List;
+import java.util.Map;
+import java.util.function.Supplier;
+
+import org.springframework.beans.factory.annotation.Autowired;
+import org.springframework.boot.context.event.ApplicationReadyEvent;
+import org.springframework.context.event.EventListener;
+import org.springframework.data.util.Pair;
+import org.springframework.stereotype.Service;
+import org.springframework.transaction.annotation.Transactional;
+
+import acme.entities.Chimpum;
+import acme.entities.DashboardStatistic;
+import acme.entities.DashboardStatisticKind;
+import acme.entities.Item;
+import acme.entities.ItemType;
+import acme.entities.Patronage;
+import acme.entities.PatronageStatus;
+
+/**
+ * Maintains the statistics shown by the dashboards as DashboardStatistic
+ * rows: the budgets of the patronages per patron, status and currency, the
+ * retail prices of the items per type, technology and currency, and the
+ * budgets of the chimpums linked to an item per currency. The services that
+ * write those entities remove the stored value of an entity and add the new
+ * one once it is validated, in the same transaction, so the dashboards read
+ * one row per group instead of every entity, and a request that fails
+ * validation leaves them as they were. The stored value is read apart from
+ * the transaction, since the entity already holds the bound one. A chimpum is
+ * added and removed only while it is linked to an item, so it is counted
+ * exactly when the recomputation would count it.
+ *
+ * Rows are locked while they are updated. Two rows of the same group may
+ * still be inserted concurrently; they are merged the next time the group
+ * is updated, and in the meanwhile when they are read. The rows are rebuilt
+ * from the entities when the application starts with none.
+ */
+@Service
+public class DashboardStatisticsService {
+
+	// Internal state ---------------------------------------------------------
+
+	@Autowired
+	protected DashboardStatisticsRepository repository;
+
+	// Business methods -------------------------------------------------------
+
+
+	public void addPatronage(final Patronage patronage) {
+		assert patronage != null;
+
+		this.add(DashboardStatisticKind.PATRONAGE_BUDGET, patronage.getPatron().getId(), patronage.getStatus().name(), "", "", patronage.getBudget().getCurrency(), patronage.getBudget().getAmount());
+	}
+
+	// Removes the values the patronage has in the database, not the ones bound to it
+	public void removePatronage(final Patronage patronage) {
+		assert patronage != null;
+
+		final List<Object[]> stored;
+		final int patronId;
+		final PatronageStatus status;
+		final String currency;
+
+		stored = this.repository.findStoredPatronage(patronage.getId());
+		if (stored.isEmpty())
+			return;
+
+		patronId = (Integer) stored.get(0)[0];
+		status = (PatronageStatus) stored.get(0)[1];
+		currency = (String) stored.get(0)[2];
+
+		this.remove(DashboardStatisticKind.PATRONAGE_BUDGET, patronId, status.name(), "", "", currency, (Double) stored.get(0)[3], () -> this.repository.findPatronageBudgetBounds(patronId, status, currency, patronage.getId()));
+	}
+
+	public void addItem(final Item item) {
+		assert item != null;
+
+		this.add(DashboardStatisticKind.ITEM_PRICE, 0, "", item.getType().name(), item.getTechnology(), item.getRetailPrice().getCurrency(), item.getRetailPrice().getAmount());
+	}
+
+	// Removes the values the item has in the database, not the ones bound to it
+	public void removeItem(final Item item) {
+		assert item != null;
+
+		final List<Object[]> stored;
+		final ItemType type;
+		final String technology;
+		final String currency;
+
+		stored = this.repository.findStoredItem(item.getId());
+		if (stored.isEmpty())
+			return;
+
+		type = (ItemType) stored.get(0)[0];
+		technology = (String) stored.get(0)[1];
+		currency = (String) stored.get(0)[2];
+
+		this.remove(DashboardStatisticKind.ITEM_PRICE, 0, "", type.name(), technology, currency, (Double) stored.get(0)[3], () -> this.repository.findItemPriceBounds(type, technology, currency, item.getId()));
+	}
+
+	public void addChimpum(final Chimpum chimpum) {
+		assert chimpum != null;
+
+		// Only the chimpums linked to an item are counted
+		if (this.repository.countItemsByChimpumId(chimpum.getId()) == 0)
+			return;
+
+		this.add(DashboardStatisticKind.CHIMPUM_BUDGET, 0, "", "", "", chimpum.getBudget().getCurrency(), chimpum.getBudget().getAmount());
+	}
+
+	// Removes the budget the chimpum has in the database, if it is linked to an item there
+	public void removeChimpum(final Chimpum chimpum) {
+		assert chimpum != null;
+
+		final List<Object[]> stored;
+		final String currency;
+
+		stored = this.repository.findStoredChimpum(chimpum.getId());
+		if (stored.isEmpty())
+			return;
+
+		currency = (String) stored.get(0)[0];
+
+		this.remove(DashboardStatisticKind.CHIMPUM_BUDGET, 0, "", "", "", currency, (Double) stored.get(0)[1], () -> this.repository.findChimpumBudgetBounds(currency, chimpum.getId()));
+	}
+
+	public Map<PatronageStatus, RunningStatistics> getPatronageStatistics() {
+		return DashboardStatisticsService.mergePerStatus(this.repository.findStatisticsByKind(DashboardStatisticKind.PATRONAGE_BUDGET));
+	}
+
+	public Map<PatronageStatus, RunningStatistics> getPatronageStatistics(final int patronId) {
+		return DashboardStatisticsService.mergePerStatus(this.repository.findPatronageStatisticsByPatronId(patronId));
+	}
+
+	// The keys are pairs of technology and currency, sorted by currency
+	public Map<Pair<String, String>, RunningStatistics> getItemStatistics(final ItemType type) {
+		assert type != null;
+
+		final Map<Pair<String, String>, RunningStatistics> result = new LinkedHashMap<>();
+
+		for (final DashboardStatistic row : this.repository.findStatisticsByKind(DashboardStatisticKind.ITEM_PRICE))
+			if (row.getItemType().equals(type.name()))
+				result.computeIfAbsent(Pair.of(row.getTechnology(), row.getCurrency()), key -> new RunningStatistics()).merge(DashboardStatisticsService.toStatistics(row));
+
+		return result;
+	}
+
+	// The keys are the currencies, sorted
+	public Map<String, RunningStatistics> getChimpumStatistics() {
+		final Map<String, RunningStatistics> result = new LinkedHashMap<>();
+
+		for (final DashboardStatistic row : this.repository.findStatisticsByKind(DashboardStatisticKind.CHIMPUM_BUDGET))
+			result.computeIfAbsent(row.getCurrency(), key -> new RunningStatistics()).merge(DashboardStatisticsService.toStatistics(row));
+
+		return result;
+	}
+
+	@EventListener(ApplicationReadyEvent.class)
+	@Transactional
+	public void onApplicationReady() {
+		if (this.repository.countStatistics() == 0)
+			this.rebuild();
+	}
+
+	@Transactional
+	public void rebuild() {
+		this.repository.deleteAllStatistics();
+
+		for (final Object[] row : this.repository.computePatronageStatistics())
+			this.insert(DashboardStatisticKind.PATRONAGE_BUDGET, (Integer) row[0], ((PatronageStatus) row[1]).name(), "", "", (String) row[2], row, 3);
+		for (final Object[] row : this.repository.computeItemStatistics())
+			this.insert(DashboardStatisticKind.ITEM_PRICE, 0, "", ((ItemType) row[0]).name(), (String) row[1], (String) row[2], row, 3);
+		for (final Object[] row : this.repository.computeChimpumStatistics())
+			this.insert(DashboardStatisticKind.CHIMPUM_BUDGET, 0, "", "", "", (String) row[0], row, 1);
+	}
+
+	// Ancillary methods ------------------------------------------------------
+
+
+	protected void add(final DashboardStatisticKind kind, final int patronId, final String status, final String itemType, final String technology, final String currency, final double value) {
+		DashboardStatistic row;
+		RunningStatistics statistics;
+
+		row = this.findRow(kind, patronId, status, itemType, technology, currency);
+		if (row == null)
+			row = DashboardStatisticsService.newRow(kind, patronId, status, itemType, technology, currency);
+
+		statistics = DashboardStatisticsService.toStatistics(row);
+		statistics.add(value);
+		DashboardStatisticsService.copy(statistics, row);
+		this.repository.save(row);
+	}
+
+	protected void remove(final DashboardStatisticKind kind, final int patronId, final String status, final String itemType, final String technology, final String currency, final double value, final Supplier<List<Object[]>> boundsFinder) {
+		final DashboardStatistic row;
+		final RunningStatistics statistics;
+		final Object[] bounds;
+
+		row = this.findRow(kind, patronId, status, itemType, technology, currency);
+		if (row == null || row.getSampleSize() == 0)
+			return;
+
+		statistics = DashboardStatisticsService.toStatistics(row);
+		if (statistics.remove(value) && !statistics.isEmpty()) {
+			bounds = boundsFinder.get().get(0);
+			if (bounds[0] != null)
+				statistics.setBounds((Double) bounds[0], (Double) bounds[1]);
+		}
+
+		if (statistics.isEmpty())
+			this.repository.delete(row);
+		else {
+			DashboardStatisticsService.copy(statistics, row);
+			this.repository.save(row);
+		}
+	}
+
+	protected DashboardStatistic findRow(final DashboardStatisticKind kind, final int patronId, final String status, final String itemType, final String technology, final String currency) {
+		final List<DashboardStatistic> rows;
+		final DashboardStatistic result;
+		final RunningStatistics statistics;
+
+		rows = this.repository.findStatisticsForUpdate(kind, patronId, status, itemType, technology, currency);
+		if (rows.isEmpty())
+			return null;
+
+		// Rows inserted concurrently for the same group are merged into one
+		result = rows.get(0);
+		if (rows.size() > 1) {
+			statistics = DashboardStatisticsService.toStatistics(result);
+			for (final DashboardStatistic duplicate : rows.subList(1, rows.size())) {
+				statistics.merge(DashboardStatisticsService.toStatistics(duplicate));
+				this.repository.delete(duplicate);
+			}
+			DashboardStatisticsService.copy(statistics, result);
+		}
+
+		return result;
+	}
+
+	protected void insert(final DashboardStatisticKind kind, final int patronId, final String status, final String itemType, final String technology, final String currency, final Object[] row, final int offset) {
+		// Columns from the offset on: count, average, deviation, minimum, maximum;
+		// some databases have no deviation for a single value
+		final Double deviation = (Double) row[offset + 2];
+		final DashboardStatistic statistic;
+
+		statistic = DashboardStatisticsService.newRow(kind, patronId, status, itemType, technology, currency);
+		DashboardStatisticsService.copy(RunningStatistics.of((Long) row[offset], (Double) row[offset + 1], deviation == null ? 0.0 : deviation, (Double) row[offset + 3], (Double) row[offset + 4]), statistic);
+		this.repository.save(statistic);
+	}
+
+	protected static Map<PatronageStatus, RunningStatistics> mergePerStatus(final List<DashboardStatistic> rows) {
+		final Map<PatronageStatus, RunningStatistics> result = new EnumMap<>(PatronageStatus.class);
+
+		for (final DashboardStatistic row : rows)
+			result.computeIfAbsent(PatronageStatus.valueOf(row.getStatus()), status -> new RunningStatistics()).merge(DashboardStatisticsService.toStatistics(row));
+
+		return result;
+	}
+
+	protected static DashboardStatistic newRow(final DashboardStatisticKind kind, final int patronId, final String status, final String itemType, final String technology, final String currency) {
+		final DashboardStatistic result = new DashboardStatistic();
+
+		result.setKind(kind);
+		result.setPatronId(patronId);
+		result.setStatus(status);
+		result.setItemType(itemType);
+		result.setTechnology(technology);
+		result.setCurrency(currency);
+
+		return result;
+	}
+
+	protected static RunningStatistics toStatistics(final DashboardStatistic row) {
+		return new RunningStatistics(row.getSampleSize(), row.getMean(), row.getSquaredDeviations(), row.getMinimum(), row.getMaximum());
+	}
+
+	protected static void copy(final RunningStatistics statistics, final DashboardStatistic row) {
+		row.setSampleSize(statistics.getCount());
+		row.setMean(statistics.getMean());
+		row.setSquaredDeviations(statistics.getSquaredDeviations());
+		row.setMinimum(statistics.isEmpty() ? 0.0 : statistics.getMinimum());
+		row.setMaximum(statistics.isEmpty() ? 0.0 : statistics.getMaximum());
+	}
+
+}
@@ -0,0 +1,155 @@
+package acme.components;
+
+import java.util.Collections;
+import java.util.HashMap;
+import java.util.List;
+import java.util.Map;
+import java.util.Set;
+import java.util.concurrent.ConcurrentHashMap;
+import java.util.concurrent.CopyOnWriteArrayList;
+import java.util.concurrent.atomic.AtomicLong;
+
+import org.springframework.beans.factory.annotation.Autowired;
+import org.springframework.boot.autoconfigure.condition.ConditionalOnProperty;
+import org.springframework.scheduling.annotation.Scheduled;
+import org.springframework.stereotype.Component;
+import org.springframework.transaction.annotation.Transactional;
+import org.springframework.transaction.support.TransactionSynchronization;
+import org.springframework.transaction.support.TransactionSynchronizationManager;
+
+import acme.entities.CacheGeneration;
+import acme.framework.helpers.StringHelper;
+
+/**
+ * Invalidation channel that goes through the database, so that it needs no
+ * infrastructure other than the one all the nodes already share. Publishing
+ * a cache increases its generation in the CacheGeneration table, in the
+ * transaction of the caller if there is one, so that the other nodes never
+ * see the new generation before the change that caused it. Every node polls
+ * the generations with a single query on a table of a few rows, and calls
+ * the listeners of the caches whose generation has changed since its last
+ * poll; the delay is bounded by the polling interval. The generations a node
+ * publishes are recorded once they commit, and the node does not call its
+ * listeners for them, since it has updated its caches already.
+ */
+@Component
+@ConditionalOnProperty(name = "acme.cache.invalidation.transport", havingValue = "database", matchIfMissing = true)
+public class DatabaseCacheInvalidationChannel implements CacheInvalidationChannel {
+
+	// Internal state ---------------------------------------------------------
+
+	@Autowired
+	protected CacheGenerationRepository			repository;
+
+	protected final Map<String, List<Runnable>>	listeners		= new ConcurrentHashMap<>();
+
+	// Generations seen by the last poll, per cache
+	protected final Map<String, Long>			generations		= new HashMap<>();
+
+	// Generations published by this node and not yet seen by a poll, per cache
+	protected final Map<String, Set<Long>>		published		= new ConcurrentHashMap<>();
+
+	protected volatile boolean					polled;
+
+	protected final AtomicLong					invalidations	= new AtomicLong();
+
+	// CacheInvalidationChannel interface -------------------------------------
+
+
+	@Override
+	@Transactional
+	public void publish(final String cache) {
+		assert !StringHelper.isBlank(cache);
+
+		CacheGeneration generation;
+		final long current;
+
+		if (this.repository.incrementGeneration(cache) == 0) {
+			// Databases populated before the cache was known lack its row
+			generation = new CacheGeneration();
+			generation.setName(cache);
+			generation.setGeneration(1L);
+			this.repository.save(generation);
+			current = 1L;
+		} else
+			// The row is locked by the update, so this is the generation it set
+			current = this.repository.findGeneration(cache);
+
+		// Recorded only once it commits: the generation of a transaction that
+		// rolls back is published again by some other one
+		if (!TransactionSynchronizationManager.isSynchronizationActive())
+			this.record(cache, current);
+		else
+			TransactionSynchronizationManager.registerSynchronization(new TransactionSynchronization() {
+
+				@Override
+				public void afterCommit() {
+					DatabaseCacheInvalidationChannel.this.record(cache, current);
+				}
+			});
+	}
+
+	@Override
+	public void subscribe(final String cache, final Runnable listener) {
+		assert !StringHelper.isBlank(cache);
+		assert listener != null;
+
+		this.listeners.computeIfAbsent(cache, name -> new CopyOnWriteArrayList<>()).add(listener);
+	}
+
+	// Business methods -------------------------------------------------------
+
+
+	@Scheduled(fixedDelayString = "${acme.cache.invalidation.interval:5000}")
+	public synchronized void poll() {
+		List<CacheGeneration> current;
+		Set<Long> published;
+		Long previous;
+
+		current = this.repository.findAllGenerations();
+		for (final CacheGeneration generation : current) {
+			previous = this.generations.get(generation.getName());
+			published = this.published.getOrDefault(generation.getName(), Collections.emptySet());
+			// The first poll only learns the generations: the caches are
+			// loaded from the database when first used, so they are current
+			if (this.polled && (previous == null || previous != generation.getGeneration()) && !DatabaseCacheInvalidationChannel.isPublished(published, previous == null ? 0L : previous, generation.getGeneration()))
+				this.invalidate(generation.getName());
+			// Not recorded if a listener fails, so the next poll retries it
+			this.generations.put(generation.getName(), generation.getGeneration());
+			published.removeIf(value -> value <= generation.getGeneration());
+		}
+		this.polled = true;
+	}
+
+	public long getInvalidations() {
+		return this.invalidations.get();
+	}
+
+	// Ancillary methods ------------------------------------------------------
+
+
+	protected void record(final String cache, final long generation) {
+		assert !StringHelper.isBlank(cache);
+
+		this.published.computeIfAbsent(cache, name -> ConcurrentHashMap.newKeySet()).add(generation);
+	}
+
+	// Whether every generation after the previous one up to the current one
+	// was published by this node
+	protected static boolean isPublished(final Set<Long> published, final long previous, final long current) {
+		for (long generation = previous + 1; generation <= current; generation++)
+			if (!published.contains(generation))
+				return false;
+
+		return true;
+	}
+
+	protected void invalidate(final String cache) {
+		assert !StringHelper.isBlank(cache);
+
+		this.invalidations.incrementAndGet();
+		for (final Runnable listener : this.listeners.getOrDefault(cache, Collections.emptyList()))
+			listener.run();
+	}
+
+}
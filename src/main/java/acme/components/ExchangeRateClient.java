@@ -0,0 +1,171 @@
+package acme.components;
+
+import java.util.concurrent.TimeUnit;
+import java.util.concurrent.atomic.AtomicLong;
+
+import javax.annotation.PostConstruct;
+
+import org.springframework.beans.factory.annotation.Value;
+import org.springframework.http.client.SimpleClientHttpRequestFactory;
+import org.springframework.stereotype.Component;
+import org.springframework.web.client.HttpServerErrorException;
+import org.springframework.web.client.ResourceAccessException;
+import org.springframework.web.client.RestClientException;
+import org.springframework.web.client.RestTemplate;
+
+import acme.framework.helpers.StringHelper;
+
+/**
+ * Shared client for the exchange-rate provider. A single RestTemplate is
+ * reused by every call, so that keep-alive connections are pooled by the
+ * underlying HttpURLConnection, and every call is bounded by explicit connect
+ * and read timeouts. Calls that fail on I/O or with a server error are
+ * retried with exponential backoff; any other failure, such as a client
+ * error because of a bad key or symbol, cannot succeed on a retry and is
+ * thrown at once.
+ */
+@Component
+public class ExchangeRateClient {
+
+	// Constants --------------------------------------------------------------
+
+	public static final String	LATEST_RATES_URL	= "https://api.exchangerate.host/latest?base={0}&symbols={1}";
+
+	// Internal state ---------------------------------------------------------
+
+	@Value("${acme.money-exchange.client.connect-timeout:2000}")
+	protected int				connectTimeout;
+
+	@Value("${acme.money-exchange.client.read-timeout:5000}")
+	protected int				readTimeout;
+
+	@Value("${acme.money-exchange.client.maximum-attempts:3}")
+	protected int				maximumAttempts;
+
+	@Value("${acme.money-exchange.client.initial-backoff:200}")
+	protected long				initialBackoff;
+
+	protected RestTemplate		api;
+
+	protected final AtomicLong	requests			= new AtomicLong();
+
+	protected final AtomicLong	failures			= new AtomicLong();
+
+	protected final AtomicLong	retries				= new AtomicLong();
+
+	protected final AtomicLong	totalLatency		= new AtomicLong();
+
+	protected final AtomicLong	maximumLatency		= new AtomicLong();
+
+	// Constructors -----------------------------------------------------------
+
+
+	@PostConstruct
+	protected void initialise() {
+		SimpleClientHttpRequestFactory factory;
+
+		factory = new SimpleClientHttpRequestFactory();
+		factory.setConnectTimeout(this.connectTimeout);
+		factory.setReadTimeout(this.readTimeout);
+
+		this.api = new RestTemplate(factory);
+	}
+
+	// Business methods -------------------------------------------------------
+
+
+	public ExchangeRate getLatestRates(final String baseCurrency, final String symbols) {
+		assert !StringHelper.isBlank(baseCurrency);
+		assert !StringHelper.isBlank(symbols);
+
+		ExchangeRate result;
+		RestClientException failure;
+		long backoff;
+
+		result = null;
+		failure = null;
+		backoff = this.initialBackoff;
+		for (int attempt = 1; result == null && attempt <= this.maximumAttempts; attempt++) {
+			if (attempt > 1) {
+				this.retries.incrementAndGet();
+				if (!this.sleep(backoff))
+					break;
+				backoff *= 2;
+			}
+
+			try {
+				result = this.call(baseCurrency, symbols);
+				failure = null;
+			} catch (final ResourceAccessException | HttpServerErrorException oops) {
+				failure = oops;
+			}
+		}
+
+		if (failure != null)
+			throw failure;
+
+		return result;
+	}
+
+	public long getRequests() {
+		return this.requests.get();
+	}
+
+	public long getFailures() {
+		return this.failures.get();
+	}
+
+	public long getRetries() {
+		return this.retries.get();
+	}
+
+	public double getAverageLatency() {
+		long requests;
+
+		requests = this.requests.get();
+
+		return requests == 0 ? 0.0 : (double) this.totalLatency.get() / requests;
+	}
+
+	public long getMaximumLatency() {
+		return this.maximumLatency.get();
+	}
+
+	// Ancillary methods ------------------------------------------------------
+
+
+	protected ExchangeRate call(final String baseCurrency, final String symbols) {
+		ExchangeRate result;
+		long start, latency;
+
+		this.requests.incrementAndGet();
+		start = System.nanoTime();
+		try {
+			result = this.api.getForObject(ExchangeRateClient.LATEST_RATES_URL, ExchangeRate.class, baseCurrency, symbols);
+		} catch (final RestClientException oops) {
+			this.failures.incrementAndGet();
+			throw oops;
+		} finally {
+			latency = TimeUnit.NANOSECONDS.toMillis(System.nanoTime() - start);
+			this.totalLatency.addAndGet(latency);
+			this.maximumLatency.accumulateAndGet(latency, Math::max);
+		}
+
+		return result;
+	}
+
+	protected boolean sleep(final long millis) {
+		boolean result;
+
+		try {
+			Thread.sleep(millis);
+			result = true;
+		} catch (final InterruptedException oops) {
+			Thread.currentThread().interrupt();
+			result = false;
+		}
+
+		return result;
+	}
+
+}
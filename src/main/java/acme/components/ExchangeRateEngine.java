@@ -0,0 +1,46 @@
+package acme.components;
+
+import java.util.concurrent.TimeUnit;
+
+import org.springframework.beans.factory.annotation.Value;
+import org.springframework.stereotype.Component;
+
+import acme.framework.helpers.StringHelper;
+
+/**
+ * Holds the current ExchangeRateMatrix. A new matrix is built off to the side
+ * whenever the pivot rate vector is reloaded and is then published with a
+ * single volatile write, so readers always see a complete snapshot. A matrix
+ * expires after the time-to-live, or once the day its rates are dated is
+ * over if that comes first, as the entries of MoneyExchangeRateCache do.
+ */
+@Component
+public class ExchangeRateEngine {
+
+	// Internal state ---------------------------------------------------------
+
+	@Value("${acme.money-exchange.cache.time-to-live:3600}")
+	protected long							timeToLive;
+
+	protected volatile ExchangeRateMatrix	matrix;
+
+	// Business methods -------------------------------------------------------
+
+
+	public ExchangeRateMatrix getMatrix() {
+		return this.matrix;
+	}
+
+	public void publish(final String pivot, final ExchangeRate record) {
+		assert !StringHelper.isBlank(pivot);
+		assert record != null && record.getDate() != null;
+
+		long expiresAt;
+
+		// Rates dated on a past day, e.g. read back from the table, are stale
+		// as soon as they are published
+		expiresAt = Math.min(System.currentTimeMillis() + TimeUnit.SECONDS.toMillis(this.timeToLive), CalculateMoneyExchange.computeExpiry(record.getDate()));
+		this.matrix = ExchangeRateMatrix.of(pivot, record, expiresAt);
+	}
+
+}
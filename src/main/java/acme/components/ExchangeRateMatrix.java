@@ -0,0 +1,102 @@
+package acme.components;
+
+import java.util.Arrays;
+import java.util.Collections;
+import java.util.Date;
+import java.util.HashMap;
+import java.util.Map;
+
+import acme.framework.helpers.StringHelper;
+
+/**
+ * Immutable snapshot of the rates of every known currency against a pivot
+ * currency. Currencies are indexed by ordinal, and any cross rate is derived
+ * by triangulation through the pivot, so that n currencies need n rates
+ * instead of n² pairs and a conversion costs two array loads and a multiply.
+ */
+public final class ExchangeRateMatrix {
+
+	// Internal state ---------------------------------------------------------
+
+	private final String				pivot;
+	private final Map<String, Integer>	ordinals;
+	// Units of each currency that one unit of the pivot buys
+	private final double[]				fromPivot;
+	// Units of the pivot that one unit of each currency buys
+	private final double[]				toPivot;
+	private final Date					date;
+	private final long					expiresAt;
+
+	// Constructors -----------------------------------------------------------
+
+
+	private ExchangeRateMatrix(final String pivot, final Map<String, Integer> ordinals, final double[] fromPivot, final Date date, final long expiresAt) {
+		this.pivot = pivot;
+		this.ordinals = ordinals;
+		this.fromPivot = fromPivot;
+		this.toPivot = new double[fromPivot.length];
+		for (int i = 0; i < fromPivot.length; i++)
+			this.toPivot[i] = 1.0 / fromPivot[i];
+		this.date = date;
+		this.expiresAt = expiresAt;
+	}
+
+	public static ExchangeRateMatrix of(final String pivot, final ExchangeRate record, final long expiresAt) {
+		assert !StringHelper.isBlank(pivot);
+		assert record != null && record.getRates() != null && record.getDate() != null;
+
+		Map<String, Integer> ordinals;
+		double[] fromPivot;
+		int ordinal;
+
+		ordinals = new HashMap<>();
+		fromPivot = new double[record.getRates().size() + 1];
+		ordinals.put(pivot, 0);
+		fromPivot[0] = 1.0;
+		ordinal = 1;
+		for (final Map.Entry<String, Double> rate : record.getRates().entrySet())
+			if (rate.getValue() != null && rate.getValue() > 0.0 && !ordinals.containsKey(rate.getKey())) {
+				ordinals.put(rate.getKey(), ordinal);
+				fromPivot[ordinal] = rate.getValue();
+				ordinal++;
+			}
+
+		return new ExchangeRateMatrix(pivot, Collections.unmodifiableMap(ordinals), Arrays.copyOf(fromPivot, ordinal), new Date(record.getDate().getTime()), expiresAt);
+	}
+
+	// Business methods -------------------------------------------------------
+
+
+	public String getPivot() {
+		return this.pivot;
+	}
+
+	public Date getDate() {
+		return new Date(this.date.getTime());
+	}
+
+	public boolean isExpired(final long now) {
+		return now >= this.expiresAt;
+	}
+
+	public int ordinalOf(final String currency) {
+		final Integer result = this.ordinals.get(currency);
+
+		return result == null ? -1 : result;
+	}
+
+	public boolean covers(final String sourceCurrency, final String targetCurrency) {
+		return this.ordinals.containsKey(sourceCurrency) && this.ordinals.containsKey(targetCurrency);
+	}
+
+	public double getRate(final int sourceOrdinal, final int targetOrdinal) {
+		return this.toPivot[sourceOrdinal] * this.fromPivot[targetOrdinal];
+	}
+
+	public double getRate(final String sourceCurrency, final String targetCurrency) {
+		assert this.covers(sourceCurrency, targetCurrency);
+
+		return this.getRate(this.ordinalOf(sourceCurrency), this.ordinalOf(targetCurrency));
+	}
+
+}
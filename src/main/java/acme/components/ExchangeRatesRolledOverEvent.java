@@ -0,0 +1,22 @@
+package acme.components;
+
+import java.util.Date;
+
+import lombok.AllArgsConstructor;
+import lombok.Getter;
+
+/**
+ * Published when the rates of the system currency are loaded with a date
+ * other than the one of the rates they replace, so that the values derived
+ * from them can be repriced.
+ */
+@Getter
+@AllArgsConstructor
+public class ExchangeRatesRolledOverEvent {
+
+	// Internal state ---------------------------------------------------------
+
+	private final String	pivot;
+	private final Date		date;
+
+}
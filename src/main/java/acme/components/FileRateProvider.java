@@ -0,0 +1,97 @@
+package acme.components;
+
+import java.io.File;
+import java.io.IOException;
+import java.util.Calendar;
+import java.util.Collection;
+import java.util.HashMap;
+import java.util.Map;
+
+import javax.annotation.PostConstruct;
+
+import org.springframework.beans.factory.annotation.Value;
+import org.springframework.boot.autoconfigure.condition.ConditionalOnProperty;
+import org.springframework.stereotype.Component;
+
+import com.fasterxml.jackson.databind.DeserializationFeature;
+import com.fasterxml.jackson.databind.ObjectMapper;
+
+import acme.framework.helpers.StringHelper;
+
+/**
+ * Serves rates from a local JSON snapshot with the same layout as the public
+ * rate API, e.g. {"base": "EUR", "date": "2022-05-23", "rates": {"USD": 1.07}}.
+ * Rates for other bases are derived from the snapshot base. The rates are
+ * dated with the day they are served on, as SyntheticRateProvider does, not
+ * with the date in the snapshot, which never changes: otherwise they would
+ * be stale from the day after the snapshot was taken, and every lookup would
+ * ask for them again. The date only changes once a day, so the refreshes of
+ * a day do not roll the rates over.
+ */
+@Component
+@ConditionalOnProperty(name = "acme.money-exchange.provider", havingValue = "file")
+public class FileRateProvider implements RateProvider {
+
+	// Internal state ---------------------------------------------------------
+
+	@Value("${acme.money-exchange.provider.file}")
+	protected String		snapshotPath;
+
+	protected ExchangeRate	snapshot;
+
+	// Constructors -----------------------------------------------------------
+
+
+	@PostConstruct
+	protected void initialise() throws IOException {
+		ObjectMapper mapper;
+
+		mapper = new ObjectMapper();
+		mapper.configure(DeserializationFeature.FAIL_ON_UNKNOWN_PROPERTIES, false);
+		this.snapshot = mapper.readValue(new File(this.snapshotPath), ExchangeRate.class);
+
+		assert this.snapshot.getRates() != null;
+		assert !StringHelper.isBlank(this.snapshot.getBase());
+
+		this.snapshot.getRates().put(this.snapshot.getBase(), 1.0);
+	}
+
+	// RateProvider interface -------------------------------------------------
+
+
+	@Override
+	public ExchangeRate getLatestRates(final String baseCurrency, final Collection<String> targetCurrencies) {
+		assert !StringHelper.isBlank(baseCurrency);
+		assert targetCurrencies != null && !targetCurrencies.isEmpty();
+
+		ExchangeRate result;
+		Map<String, Double> rates;
+		Double baseRate, targetRate;
+		Calendar today;
+
+		baseRate = this.snapshot.getRates().get(baseCurrency);
+		if (baseRate == null)
+			return null;
+
+		rates = new HashMap<>();
+		for (final String targetCurrency : targetCurrencies) {
+			targetRate = this.snapshot.getRates().get(targetCurrency);
+			if (targetRate != null)
+				rates.put(targetCurrency, targetRate / baseRate);
+		}
+
+		today = Calendar.getInstance();
+		today.set(Calendar.HOUR_OF_DAY, 0);
+		today.set(Calendar.MINUTE, 0);
+		today.set(Calendar.SECOND, 0);
+		today.set(Calendar.MILLISECOND, 0);
+
+		result = new ExchangeRate();
+		result.setBase(baseCurrency);
+		result.setDate(today.getTime());
+		result.setRates(rates);
+
+		return result;
+	}
+
+}
@@ -0,0 +1,31 @@
+package acme.components;
+
+import java.util.Collection;
+
+import org.springframework.beans.factory.annotation.Autowired;
+import org.springframework.boot.autoconfigure.condition.ConditionalOnProperty;
+import org.springframework.stereotype.Component;
+
+import acme.framework.helpers.StringHelper;
+
+@Component
+@ConditionalOnProperty(name = "acme.money-exchange.provider", havingValue = "http", matchIfMissing = true)
+public class HttpRateProvider implements RateProvider {
+
+	// Internal state ---------------------------------------------------------
+
+	@Autowired
+	protected ExchangeRateClient client;
+
+	// RateProvider interface -------------------------------------------------
+
+
+	@Override
+	public ExchangeRate getLatestRates(final String baseCurrency, final Collection<String> targetCurrencies) {
+		assert !StringHelper.isBlank(baseCurrency);
+		assert targetCurrencies != null && !targetCurrencies.isEmpty();
+
+		return this.client.getLatestRates(baseCurrency, String.join(",", targetCurrencies));
+	}
+
+}
@@ -0,0 +1,315 @@
+package acme.components;
+
+import java.util.ArrayList;
+import java.util.Arrays;
+import java.util.Collection;
+import java.util.Comparator;
+import java.util.HashMap;
+import java.util.LinkedHashSet;
+import java.util.List;
+import java.util.Locale;
+import java.util.Map;
+import java.util.NavigableMap;
+import java.util.Set;
+import java.util.TreeMap;
+import java.util.concurrent.locks.ReadWriteLock;
+import java.util.concurrent.locks.ReentrantReadWriteLock;
+
+import acme.framework.helpers.StringHelper;
+
+/**
+ * In-memory inverted index from terms to document identifiers. Every posting
+ * list is a sorted array of identifiers, and the terms are kept sorted so
+ * that a prefix query is a range of the term map.
+ *
+ * A query is a list of words, all of which must match; a word that ends in
+ * '*' matches every term that starts with it. Results are returned in
+ * identifier order, a page at a time, starting after a cursor: the shortest
+ * posting list drives the search and the others are probed by binary
+ * search, so a page costs about the same whatever the size of the index.
+ */
+public class InvertedIndex {
+
+	// Constants --------------------------------------------------------------
+
+	protected static final int[]				EMPTY		= new int[0];
+
+	// Internal state ---------------------------------------------------------
+
+	protected final NavigableMap<String, int[]>	postings	= new TreeMap<>();
+
+	protected final Map<Integer, Set<String>>	documents	= new HashMap<>();
+
+	protected final ReadWriteLock				lock		= new ReentrantReadWriteLock();
+
+	// Business methods -------------------------------------------------------
+
+
+	public void put(final int id, final String... fields) {
+		assert fields != null;
+
+		Set<String> terms;
+
+		terms = new LinkedHashSet<>();
+		for (final String field : fields)
+			terms.addAll(InvertedIndex.tokenize(field));
+
+		this.lock.writeLock().lock();
+		try {
+			this.unindex(id);
+			for (final String term : terms)
+				this.postings.put(term, InvertedIndex.insert(this.postings.getOrDefault(term, InvertedIndex.EMPTY), id));
+			this.documents.put(id, terms);
+		} finally {
+			this.lock.writeLock().unlock();
+		}
+	}
+
+	// Replaces the contents of the index; every posting list is sorted once,
+	// rather than copied on every identifier, as put would do
+	public void load(final Map<Integer, String[]> documents) {
+		assert documents != null;
+
+		Map<String, List<Integer>> lists;
+		Map<Integer, Set<String>> terms;
+		NavigableMap<String, int[]> postings;
+		Set<String> documentTerms;
+		int[] list;
+		int k;
+
+		lists = new HashMap<>();
+		terms = new HashMap<>();
+		for (final Map.Entry<Integer, String[]> document : documents.entrySet()) {
+			documentTerms = new LinkedHashSet<>();
+			for (final String field : document.getValue())
+				documentTerms.addAll(InvertedIndex.tokenize(field));
+			for (final String term : documentTerms)
+				lists.computeIfAbsent(term, key -> new ArrayList<>()).add(document.getKey());
+			terms.put(document.getKey(), documentTerms);
+		}
+
+		postings = new TreeMap<>();
+		for (final Map.Entry<String, List<Integer>> entry : lists.entrySet()) {
+			list = new int[entry.getValue().size()];
+			k = 0;
+			for (final Integer id : entry.getValue())
+				list[k++] = id;
+			Arrays.sort(list);
+			postings.put(entry.getKey(), list);
+		}
+
+		this.lock.writeLock().lock();
+		try {
+			this.postings.clear();
+			this.postings.putAll(postings);
+			this.documents.clear();
+			this.documents.putAll(terms);
+		} finally {
+			this.lock.writeLock().unlock();
+		}
+	}
+
+	public void remove(final int id) {
+		this.lock.writeLock().lock();
+		try {
+			this.unindex(id);
+		} finally {
+			this.lock.writeLock().unlock();
+		}
+	}
+
+	public void clear() {
+		this.lock.writeLock().lock();
+		try {
+			this.postings.clear();
+			this.documents.clear();
+		} finally {
+			this.lock.writeLock().unlock();
+		}
+	}
+
+	public int size() {
+		this.lock.readLock().lock();
+		try {
+			return this.documents.size();
+		} finally {
+			this.lock.readLock().unlock();
+		}
+	}
+
+	public List<Integer> search(final String query, final int cursor, final int size) {
+		assert size > 0;
+
+		List<Integer> result;
+		List<int[]> lists;
+		int[] driver;
+		int start;
+
+		result = new ArrayList<>();
+		if (StringHelper.isBlank(query))
+			return result;
+
+		this.lock.readLock().lock();
+		try {
+			lists = this.findPostings(query);
+			if (lists.isEmpty())
+				return result;
+			lists.sort(Comparator.comparingInt(list -> list.length));
+
+			driver = lists.get(0);
+			start = InvertedIndex.upperBound(driver, cursor);
+			for (int i = start; i < driver.length && result.size() < size; i++)
+				if (InvertedIndex.containedInAll(driver[i], lists))
+					result.add(driver[i]);
+		} finally {
+			this.lock.readLock().unlock();
+		}
+
+		return result;
+	}
+
+	public static List<String> tokenize(final String text) {
+		List<String> result;
+
+		result = new ArrayList<>();
+		if (text != null)
+			for (final String term : text.toLowerCase(Locale.ROOT).split("[^\\p{L}\\p{N}]+"))
+				if (!term.isEmpty())
+					result.add(term);
+
+		return result;
+	}
+
+	// Ancillary methods ------------------------------------------------------
+
+
+	protected List<int[]> findPostings(final String query) {
+		List<int[]> result;
+		List<String> terms;
+		boolean prefix;
+		int[] list;
+
+		result = new ArrayList<>();
+		for (final String word : query.trim().split("\\s+")) {
+			prefix = word.endsWith("*");
+			terms = InvertedIndex.tokenize(word);
+			for (int i = 0; i < terms.size(); i++) {
+				if (prefix && i == terms.size() - 1)
+					list = this.findPrefix(terms.get(i));
+				else
+					list = this.postings.getOrDefault(terms.get(i), InvertedIndex.EMPTY);
+
+				// A word without matches rules every document out
+				if (list.length == 0)
+					return new ArrayList<>();
+				result.add(list);
+			}
+		}
+
+		return result;
+	}
+
+	protected int[] findPrefix(final String prefix) {
+		Collection<int[]> lists;
+		int[] result;
+		int length, k;
+
+		lists = this.postings.subMap(prefix, true, prefix + Character.MAX_VALUE, false).values();
+		if (lists.size() == 1)
+			return lists.iterator().next();
+
+		length = 0;
+		for (final int[] list : lists)
+			length += list.length;
+
+		result = new int[length];
+		k = 0;
+		for (final int[] list : lists) {
+			System.arraycopy(list, 0, result, k, list.length);
+			k += list.length;
+		}
+		Arrays.sort(result);
+
+		// Documents that match several terms with the prefix are kept once
+		k = 0;
+		for (int i = 0; i < result.length; i++)
+			if (i == 0 || result[i] != result[i - 1])
+				result[k++] = result[i];
+
+		return k == result.length ? result : Arrays.copyOf(result, k);
+	}
+
+	protected void unindex(final int id) {
+		Set<String> terms;
+		int[] list;
+
+		terms = this.documents.remove(id);
+		if (terms == null)
+			return;
+
+		for (final String term : terms) {
+			list = InvertedIndex.delete(this.postings.getOrDefault(term, InvertedIndex.EMPTY), id);
+			if (list.length == 0)
+				this.postings.remove(term);
+			else
+				this.postings.put(term, list);
+		}
+	}
+
+	protected static boolean containedInAll(final int id, final List<int[]> lists) {
+		for (int j = 1; j < lists.size(); j++)
+			if (Arrays.binarySearch(lists.get(j), id) < 0)
+				return false;
+
+		return true;
+	}
+
+	protected static int upperBound(final int[] list, final int key) {
+		int low, high, middle;
+
+		low = 0;
+		high = list.length;
+		while (low < high) {
+			middle = (low + high) >>> 1;
+			if (list[middle] <= key)
+				low = middle + 1;
+			else
+				high = middle;
+		}
+
+		return low;
+	}
+
+	protected static int[] insert(final int[] list, final int id) {
+		int[] result;
+		int position;
+
+		position = Arrays.binarySearch(list, id);
+		if (position >= 0)
+			return list;
+
+		position = -position - 1;
+		result = new int[list.length + 1];
+		System.arraycopy(list, 0, result, 0, position);
+		result[position] = id;
+		System.arraycopy(list, position, result, position + 1, list.length - position);
+
+		return result;
+	}
+
+	protected static int[] delete(final int[] list, final int id) {
+		int[] result;
+		int position;
+
+		position = Arrays.binarySearch(list, id);
+		if (position < 0)
+			return list;
+
+		result = new int[list.length - 1];
+		System.arraycopy(list, 0, result, 0, position);
+		System.arraycopy(list, position + 1, result, position, list.length - position - 1);
+
+		return result;
+	}
+
+}
@@ -0,0 +1,257 @@
+package acme.components;
+
+import java.util.ArrayList;
+import java.util.Collection;
+import java.util.List;
+import java.util.Map;
+import java.util.concurrent.ForkJoinPool;
+import java.util.concurrent.ForkJoinTask;
+import java.util.concurrent.atomic.AtomicBoolean;
+import java.util.concurrent.atomic.AtomicLong;
+
+import javax.annotation.PostConstruct;
+import javax.annotation.PreDestroy;
+
+import org.springframework.beans.factory.annotation.Autowired;
+import org.springframework.beans.factory.annotation.Value;
+import org.springframework.boot.context.event.ApplicationReadyEvent;
+import org.springframework.context.event.EventListener;
+import org.springframework.data.domain.PageRequest;
+import org.springframework.data.domain.Pageable;
+import org.springframework.scheduling.annotation.Scheduled;
+import org.springframework.stereotype.Component;
+
+import acme.forms.MoneyExchange;
+
+/**
+ * Batch job that refreshes Item.convertedPrice and Item.exchangeDate for
+ * every item priced in a foreign currency, once the rates of the system
+ * currency roll over, so that no request has to convert and write an item
+ * on its own.
+ *
+ * The items of every currency are walked in chunks of identifiers, using the
+ * last identifier of a chunk as the key of the next one, and every chunk is
+ * written back by a single set-based update on a fork-join pool. Once every
+ * item is done, the total prices of the toolkits, which are computed from
+ * the converted prices, are refreshed in chunks too, each in a transaction
+ * of its own. The job also runs once when the application starts, since the
+ * stored totals may have been computed with other rates, or not at all, as
+ * the ones of the sample data. Progress and throughput are exposed through
+ * getters.
+ */
+@Component
+public class ItemRepricingJob {
+
+	// Internal state ---------------------------------------------------------
+
+	@Autowired
+	protected ItemRepricingRepository	repository;
+
+	@Autowired
+	protected MoneyExchangeService		exchangeService;
+
+	@Autowired
+	protected SystemConfigurationCache	configurationCache;
+
+	@Autowired
+	protected ToolkitPriceService		priceService;
+
+	@Value("${acme.item.reprice.enabled:true}")
+	protected boolean					enabled;
+
+	@Value("${acme.item.reprice.chunk-size:1000}")
+	protected int						chunkSize;
+
+	@Value("${acme.item.reprice.parallelism:4}")
+	protected int						parallelism;
+
+	@Value("${acme.toolkit.reprice.chunk-size:100}")
+	protected int						toolkitChunkSize;
+
+	protected ForkJoinPool				pool;
+
+	protected volatile boolean			pending;
+
+	protected final AtomicBoolean		running				= new AtomicBoolean();
+
+	protected final AtomicLong			totalItems			= new AtomicLong();
+
+	protected final AtomicLong			repricedItems		= new AtomicLong();
+
+	protected final AtomicLong			chunks				= new AtomicLong();
+
+	protected final AtomicLong			repricedToolkits	= new AtomicLong();
+
+	protected volatile long				startedAt;
+
+	protected volatile long				duration;
+
+	// Constructors -----------------------------------------------------------
+
+
+	@PostConstruct
+	protected void initialise() {
+		assert this.chunkSize > 0;
+		assert this.parallelism > 0;
+		assert this.toolkitChunkSize > 0;
+
+		this.pool = new ForkJoinPool(this.parallelism);
+	}
+
+	@PreDestroy
+	protected void destroy() {
+		this.pool.shutdownNow();
+	}
+
+	// Business methods -------------------------------------------------------
+
+
+	@EventListener(ApplicationReadyEvent.class)
+	public void onApplicationReady() {
+		this.run();
+	}
+
+	@EventListener
+	public void onRatesRolledOver(final ExchangeRatesRolledOverEvent event) {
+		// The event may be raised on a request thread, so the job is run
+		// later on, on the scheduler thread; the toolkits are repriced even
+		// when the items are not
+		this.pending = true;
+	}
+
+	@Scheduled(initialDelayString = "${acme.item.reprice.interval:60000}", fixedDelayString = "${acme.item.reprice.interval:60000}")
+	public void runIfPending() {
+		if (this.pending) {
+			this.pending = false;
+			this.run();
+		}
+	}
+
+	public void run() {
+		if (!this.running.compareAndSet(false, true))
+			return;
+
+		try {
+			if (this.enabled)
+				this.reprice();
+			this.repriceToolkits();
+		} finally {
+			this.running.set(false);
+		}
+	}
+
+	public boolean isRunning() {
+		return this.running.get();
+	}
+
+	public long getTotalItems() {
+		return this.totalItems.get();
+	}
+
+	public long getRepricedItems() {
+		return this.repricedItems.get();
+	}
+
+	public long getChunks() {
+		return this.chunks.get();
+	}
+
+	public long getRepricedToolkits() {
+		return this.repricedToolkits.get();
+	}
+
+	public double getProgress() {
+		long total;
+
+		total = this.totalItems.get();
+
+		return total == 0 ? 1.0 : (double) this.repricedItems.get() / total;
+	}
+
+	public long getDuration() {
+		return this.running.get() ? System.currentTimeMillis() - this.startedAt : this.duration;
+	}
+
+	public double getThroughput() {
+		long millis;
+
+		millis = this.getDuration();
+
+		return millis == 0 ? 0.0 : this.repricedItems.get() * 1000.0 / millis;
+	}
+
+	// Ancillary methods ------------------------------------------------------
+
+
+	protected void reprice() {
+		String systemCurrency;
+		Collection<String> currencies;
+		Map<String, MoneyExchange> rates;
+		List<ForkJoinTask<?>> tasks;
+		MoneyExchange rate;
+
+		this.startedAt = System.currentTimeMillis();
+		this.duration = 0L;
+		this.repricedItems.set(0L);
+		this.chunks.set(0L);
+
+		systemCurrency = this.configurationCache.getSystemCurrency();
+		this.totalItems.set(this.repository.countForeignItems(systemCurrency));
+		currencies = this.repository.findForeignCurrencies(systemCurrency);
+		rates = this.exchangeService.getRates(currencies, systemCurrency);
+
+		tasks = new ArrayList<>();
+		for (final String currency : currencies) {
+			rate = rates.get(currency);
+			// Items without a rate keep their last converted price
+			if (rate != null)
+				this.submitChunks(currency, systemCurrency, rate, tasks);
+		}
+
+		for (final ForkJoinTask<?> task : tasks)
+			task.join();
+
+		this.duration = System.currentTimeMillis() - this.startedAt;
+	}
+
+	protected void repriceToolkits() {
+		final Pageable chunk = PageRequest.of(0, this.toolkitChunkSize);
+		List<Integer> ids;
+		int lastId;
+
+		this.repricedToolkits.set(0L);
+
+		lastId = 0;
+		ids = this.priceService.repriceToolkitsAfter(lastId, chunk);
+		while (!ids.isEmpty()) {
+			this.repricedToolkits.addAndGet(ids.size());
+			lastId = ids.get(ids.size() - 1);
+			ids = ids.size() < this.toolkitChunkSize ? new ArrayList<>() : this.priceService.repriceToolkitsAfter(lastId, chunk);
+		}
+	}
+
+	protected void submitChunks(final String currency, final String systemCurrency, final MoneyExchange rate, final List<ForkJoinTask<?>> tasks) {
+		final Pageable chunk = PageRequest.of(0, this.chunkSize);
+		List<Integer> ids;
+		int lastId;
+
+		lastId = 0;
+		ids = this.repository.findItemIdsAfter(currency, lastId, chunk);
+		while (!ids.isEmpty()) {
+			final List<Integer> batch = ids;
+			tasks.add(this.pool.submit(() -> this.repriceChunk(batch, systemCurrency, rate)));
+
+			lastId = ids.get(ids.size() - 1);
+			ids = ids.size() < this.chunkSize ? new ArrayList<>() : this.repository.findItemIdsAfter(currency, lastId, chunk);
+		}
+	}
+
+	protected void repriceChunk(final List<Integer> ids, final String systemCurrency, final MoneyExchange rate) {
+		int updated;
+
+		updated = this.repository.updateConvertedPrices(ids, systemCurrency, rate.getRate(), rate.getDate());
+		this.repricedItems.addAndGet(updated);
+		this.chunks.incrementAndGet();
+	}
+
+}
@@ -0,0 +1,32 @@
+package acme.components;
+
+import java.util.Collection;
+import java.util.Date;
+import java.util.List;
+
+import org.springframework.data.domain.Pageable;
+import org.springframework.data.jpa.repository.Modifying;
+import org.springframework.data.jpa.repository.Query;
+import org.springframework.stereotype.Repository;
+import org.springframework.transaction.annotation.Transactional;
+
+import acme.framework.repositories.AbstractRepository;
+
+@Repository
+public interface ItemRepricingRepository extends AbstractRepository {
+
+	@Query("select distinct i.retailPrice.currency from Item i where i.retailPrice.currency <> :systemCurrency")
+	Collection<String> findForeignCurrencies(String systemCurrency);
+
+	@Query("select count(i) from Item i where i.retailPrice.currency <> :systemCurrency")
+	long countForeignItems(String systemCurrency);
+
+	@Query("select i.id from Item i where i.retailPrice.currency = :currency and i.id > :lastId order by i.id")
+	List<Integer> findItemIdsAfter(String currency, int lastId, Pageable chunk);
+
+	@Modifying
+	@Transactional
+	@Query("update Item i set i.convertedPrice.amount = i.retailPrice.amount * :rate, i.convertedPrice.currency = :targetCurrency, i.exchangeDate = :date where i.id in :ids")
+	int updateConvertedPrices(Collection<Integer> ids, String targetCurrency, double rate, Date date);
+
+}
@@ -0,0 +1,93 @@
+package acme.components;
+
+import java.util.Collection;
+
+import org.springframework.beans.factory.annotation.Value;
+import org.springframework.data.domain.PageRequest;
+import org.springframework.data.domain.Pageable;
+import org.springframework.stereotype.Component;
+
+import acme.framework.components.models.Model;
+import acme.framework.controllers.Request;
+import acme.framework.entities.AbstractEntity;
+
+/**
+ * Keyset pagination for list services. A page is requested by an optional
+ * "cursor" attribute, which is the identifier of the last row of the
+ * previous page, and an optional "size" attribute, which is bounded. The list
+ * queries seek past the cursor instead of skipping rows, so any page costs
+ * the same as the first one. When a page is full, its last identifier is
+ * unbound as "nextCursor" so the view can link to the next page.
+ */
+@Component
+public class KeysetPager {
+
+	// Constants --------------------------------------------------------------
+
+	public static final String	CURSOR		= "cursor";
+
+	public static final String	SIZE		= "size";
+
+	public static final String	NEXT_CURSOR	= "nextCursor";
+
+	// Internal state ---------------------------------------------------------
+
+	@Value("${acme.list.page-size:50}")
+	protected int				pageSize;
+
+	@Value("${acme.list.maximum-page-size:200}")
+	protected int				maximumPageSize;
+
+	// Business methods -------------------------------------------------------
+
+
+	public int getCursor(final Request<?> request) {
+		assert request != null;
+
+		int result;
+
+		if (request.getModel().hasAttribute(KeysetPager.CURSOR))
+			result = Math.max(0, request.getModel().getInteger(KeysetPager.CURSOR));
+		else
+			result = 0;
+
+		return result;
+	}
+
+	public Pageable getPage(final Request<?> request) {
+		assert request != null;
+
+		return PageRequest.of(0, this.getPageSize(request));
+	}
+
+	public void unbindNextCursor(final Request<?> request, final Collection<? extends AbstractEntity> entities, final Model model) {
+		assert request != null;
+		assert entities != null;
+		assert model != null;
+
+		AbstractEntity last;
+
+		if (entities.size() < this.getPageSize(request))
+			return;
+
+		last = null;
+		for (final AbstractEntity entity : entities)
+			last = entity;
+		model.setAttribute(KeysetPager.NEXT_CURSOR, last.getId());
+	}
+
+	// Ancillary methods ------------------------------------------------------
+
+
+	protected int getPageSize(final Request<?> request) {
+		int result;
+
+		if (request.getModel().hasAttribute(KeysetPager.SIZE))
+			result = request.getModel().getInteger(KeysetPager.SIZE);
+		else
+			result = this.pageSize;
+
+		return Math.max(1, Math.min(result, this.maximumPageSize));
+	}
+
+}
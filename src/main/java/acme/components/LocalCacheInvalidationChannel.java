@@ -0,0 +1,31 @@
+package acme.components;
+
+import org.springframework.boot.autoconfigure.condition.ConditionalOnProperty;
+import org.springframework.stereotype.Component;
+
+import acme.framework.helpers.StringHelper;
+
+/**
+ * In-process stand-in for the invalidation channel, for a single node. There
+ * are no other nodes to tell, and the listeners of this node are not called
+ * for its own publications, so both operations do nothing.
+ */
+@Component
+@ConditionalOnProperty(name = "acme.cache.invalidation.transport", havingValue = "local")
+public class LocalCacheInvalidationChannel implements CacheInvalidationChannel {
+
+	// CacheInvalidationChannel interface -------------------------------------
+
+
+	@Override
+	public void publish(final String cache) {
+		assert !StringHelper.isBlank(cache);
+	}
+
+	@Override
+	public void subscribe(final String cache, final Runnable listener) {
+		assert !StringHelper.isBlank(cache);
+		assert listener != null;
+	}
+
+}
@@ -0,0 +1,116 @@
+package acme.components;
+
+import java.math.BigDecimal;
+import java.math.RoundingMode;
+import java.util.Currency;
+
+import acme.framework.datatypes.Money;
+import acme.framework.helpers.StringHelper;
+
+/**
+ * Fixed-point accumulator of amounts in a single currency. Amounts are kept
+ * as a primitive long count of minor units (e.g., cents), so that sums are
+ * exact and adding a line allocates nothing; a Money object is only built by
+ * toMoney, at the unbind boundary.
+ */
+public final class MoneyAccumulator {
+
+	// Internal state ---------------------------------------------------------
+
+	private final String	currency;
+	private final int		fractionDigits;
+	private final long		scale;
+	private long			total;
+
+	// Constructors -----------------------------------------------------------
+
+
+	public MoneyAccumulator(final String currency) {
+		assert !StringHelper.isBlank(currency);
+
+		this.currency = currency;
+		this.fractionDigits = MoneyAccumulator.fractionDigitsOf(currency);
+		this.scale = MoneyAccumulator.powerOfTen(this.fractionDigits);
+		this.total = 0L;
+	}
+
+	// Business methods -------------------------------------------------------
+
+
+	public String getCurrency() {
+		return this.currency;
+	}
+
+	public long getTotal() {
+		return this.total;
+	}
+
+	public void add(final double amount, final int quantity) {
+		this.addMinorUnits(this.toMinorUnits(amount), quantity);
+	}
+
+	public void add(final double amount, final double rate, final int quantity) {
+		this.addMinorUnits(this.convert(this.toMinorUnits(amount), rate), quantity);
+	}
+
+	public void addMinorUnits(final long minorUnits, final int quantity) {
+		this.total = Math.addExact(this.total, Math.multiplyExact(minorUnits, quantity));
+	}
+
+	public long toMinorUnits(final double amount) {
+		double scaled;
+		long result;
+
+		scaled = amount * this.scale;
+		result = Math.round(scaled);
+		// Only amounts that land close to a half unit need exact decimal rounding
+		if (Math.abs(Math.abs(scaled - result) - 0.5) < 1e-6)
+			result = BigDecimal.valueOf(amount).movePointRight(this.fractionDigits).setScale(0, RoundingMode.HALF_EVEN).longValueExact();
+
+		return result;
+	}
+
+	public long convert(final long minorUnits, final double rate) {
+		return Math.round(minorUnits * rate);
+	}
+
+	public double toAmount() {
+		return (double) this.total / this.scale;
+	}
+
+	public Money toMoney() {
+		Money result;
+
+		result = new Money();
+		result.setAmount(this.toAmount());
+		result.setCurrency(this.currency);
+
+		return result;
+	}
+
+	// Ancillary methods ------------------------------------------------------
+
+
+	private static int fractionDigitsOf(final String currency) {
+		int result;
+
+		try {
+			result = Currency.getInstance(currency).getDefaultFractionDigits();
+		} catch (final IllegalArgumentException oops) {
+			result = 2;
+		}
+
+		return result < 0 ? 2 : result;
+	}
+
+	private static long powerOfTen(final int exponent) {
+		long result;
+
+		result = 1L;
+		for (int i = 0; i < exponent; i++)
+			result *= 10L;
+
+		return result;
+	}
+
+}
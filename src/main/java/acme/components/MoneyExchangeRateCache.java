@@ -0,0 +1,154 @@
+package acme.components;
+
+import java.util.Date;
+import java.util.Map;
+import java.util.concurrent.ConcurrentHashMap;
+import java.util.concurrent.TimeUnit;
+import java.util.concurrent.atomic.AtomicLong;
+
+import org.springframework.beans.factory.annotation.Value;
+import org.springframework.stereotype.Component;
+
+import lombok.AllArgsConstructor;
+import lombok.Getter;
+
+/**
+ * Process-wide cache of exchange rates keyed by (source, target) currency pair.
+ * It sits in front of the MoneyExchangeCache table so that a conversion whose
+ * rate is already known does not cost a database round-trip. An entry
+ * expires after its time to live, or once the day its rate is dated is over,
+ * whichever comes first.
+ */
+@Component
+public class MoneyExchangeRateCache {
+
+	// Internal state ---------------------------------------------------------
+
+	protected final Map<String, Entry>	entries	= new ConcurrentHashMap<>();
+
+	protected final AtomicLong			hits	= new AtomicLong();
+
+	protected final AtomicLong			misses	= new AtomicLong();
+
+	@Value("${acme.money-exchange.cache.time-to-live:3600}")
+	protected long						timeToLive;
+
+	@Value("${acme.money-exchange.cache.maximum-size:1024}")
+	protected int						maximumSize;
+
+	// Business methods -------------------------------------------------------
+
+
+	public Entry get(final String sourceCurrency, final String targetCurrency) {
+		assert sourceCurrency != null;
+		assert targetCurrency != null;
+
+		Entry result;
+
+		result = this.entries.get(MoneyExchangeRateCache.key(sourceCurrency, targetCurrency));
+		if (result != null && result.isExpired(System.currentTimeMillis()))
+			result = null;
+
+		if (result == null)
+			this.misses.incrementAndGet();
+		else
+			this.hits.incrementAndGet();
+
+		return result;
+	}
+
+	public Entry getStale(final String sourceCurrency, final String targetCurrency) {
+		assert sourceCurrency != null;
+		assert targetCurrency != null;
+
+		return this.entries.get(MoneyExchangeRateCache.key(sourceCurrency, targetCurrency));
+	}
+
+	public void put(final String sourceCurrency, final String targetCurrency, final double rate, final Date date) {
+		assert sourceCurrency != null;
+		assert targetCurrency != null;
+		assert date != null;
+
+		long expiresAt;
+
+		if (this.entries.size() >= this.maximumSize)
+			this.evict();
+
+		// Rates dated on a past day are stale as soon as they are put
+		expiresAt = Math.min(System.currentTimeMillis() + TimeUnit.SECONDS.toMillis(this.timeToLive), CalculateMoneyExchange.computeExpiry(date));
+		this.entries.put(MoneyExchangeRateCache.key(sourceCurrency, targetCurrency), new Entry(rate, new Date(date.getTime()), expiresAt));
+	}
+
+	public void invalidate(final String sourceCurrency, final String targetCurrency) {
+		this.entries.remove(MoneyExchangeRateCache.key(sourceCurrency, targetCurrency));
+	}
+
+	public void clear() {
+		this.entries.clear();
+	}
+
+	public int size() {
+		return this.entries.size();
+	}
+
+	public long getHits() {
+		return this.hits.get();
+	}
+
+	public long getMisses() {
+		return this.misses.get();
+	}
+
+	public double getHitRatio() {
+		long hits, total;
+
+		hits = this.hits.get();
+		total = hits + this.misses.get();
+
+		return total == 0 ? 0.0 : (double) hits / total;
+	}
+
+	// Ancillary methods ------------------------------------------------------
+
+
+	protected void evict() {
+		final long now = System.currentTimeMillis();
+		String oldest;
+		long oldestExpiry;
+
+		this.entries.values().removeIf(entry -> entry.isExpired(now));
+
+		oldest = null;
+		oldestExpiry = Long.MAX_VALUE;
+		for (final Map.Entry<String, Entry> entry : this.entries.entrySet())
+			if (entry.getValue().getExpiresAt() < oldestExpiry) {
+				oldest = entry.getKey();
+				oldestExpiry = entry.getValue().getExpiresAt();
+			}
+
+		if (oldest != null && this.entries.size() >= this.maximumSize)
+			this.entries.remove(oldest);
+	}
+
+	protected static String key(final String sourceCurrency, final String targetCurrency) {
+		return sourceCurrency + "/" + targetCurrency;
+	}
+
+	// Inner classes ----------------------------------------------------------
+
+	@Getter
+	@AllArgsConstructor
+	public static class Entry {
+
+		private final double	rate;
+		private final Date		date;
+		private final long		expiresAt;
+
+
+		public boolean isExpired(final long now) {
+			return now >= this.expiresAt;
+		}
+
+	}
+
+}
@@ -0,0 +1,390 @@
+package acme.components;
+
+import java.util.Calendar;
+import java.util.Collection;
+import java.util.Date;
+import java.util.HashMap;
+import java.util.LinkedHashSet;
+import java.util.Map;
+import java.util.Set;
+import java.util.concurrent.CompletableFuture;
+import java.util.concurrent.ConcurrentHashMap;
+import java.util.concurrent.ExecutionException;
+import java.util.concurrent.ExecutorService;
+import java.util.concurrent.Executors;
+import java.util.concurrent.TimeUnit;
+import java.util.concurrent.TimeoutException;
+
+import javax.annotation.PostConstruct;
+import javax.annotation.PreDestroy;
+
+import org.springframework.beans.factory.annotation.Autowired;
+import org.springframework.beans.factory.annotation.Value;
+import org.springframework.context.ApplicationEventPublisher;
+import org.springframework.context.annotation.Lazy;
+import org.springframework.stereotype.Component;
+import org.springframework.transaction.annotation.Propagation;
+import org.springframework.transaction.annotation.Transactional;
+
+import acme.entities.MoneyExchangeCache;
+import acme.forms.MoneyExchange;
+import acme.framework.datatypes.Money;
+import acme.framework.helpers.StringHelper;
+
+/**
+ * Fetches the whole rate vector of a base currency against every accepted
+ * currency in a single upstream call, and stores every pair at once both in
+ * the MoneyExchangeCache table and in the in-memory rate cache.
+ *
+ * When the base is the system currency, the rate vector is also published to
+ * the ExchangeRateEngine, which derives every other pair by triangulation,
+ * and an ExchangeRatesRolledOverEvent is raised if its date is a new one.
+ *
+ * Rates that are missed by a request are loaded in the background, on the
+ * thread that revalidates the stale ones, so that requests never wait on the
+ * rate provider.
+ *
+ * Concurrent loads of the same base currency are coalesced: the first caller
+ * performs the fetch and the others wait, for a bounded time, on its result.
+ * Every call to the rate provider goes through a circuit breaker, so that a
+ * failing upstream is not hammered while it is down.
+ */
+@Component
+public class MoneyExchangeRateLoader {
+
+	// Internal state ---------------------------------------------------------
+
+	@Autowired
+	protected MoneyExchangeRepository								repository;
+
+	@Autowired
+	protected MoneyExchangeRateCache								rateCache;
+
+	@Autowired
+	protected RateProvider											rateProvider;
+
+	@Autowired
+	protected ExchangeRateEngine									rateEngine;
+
+	@Autowired
+	protected SystemConfigurationCache								configurationCache;
+
+	@Autowired
+	protected CacheInvalidationChannel								invalidationChannel;
+
+	@Autowired
+	protected ApplicationEventPublisher								eventPublisher;
+
+	// The proxy of this loader, so that the loads run in the background get
+	// the transaction of their own that a call on this would bypass
+	@Lazy
+	@Autowired
+	protected MoneyExchangeRateLoader								self;
+
+	@Value("${acme.money-exchange.loader.wait-timeout:5000}")
+	protected long													waitTimeout;
+
+	@Value("${acme.money-exchange.circuit-breaker.failure-threshold:3}")
+	protected int													failureThreshold;
+
+	@Value("${acme.money-exchange.circuit-breaker.open-duration:60000}")
+	protected long													openDuration;
+
+	protected final Map<String, CompletableFuture<ExchangeRate>>	inFlight		= new ConcurrentHashMap<>();
+
+	// Base currencies whose revalidation is queued or running
+	protected final Set<String>										revalidating	= ConcurrentHashMap.newKeySet();
+
+	protected CircuitBreaker										circuitBreaker;
+
+	protected ExecutorService										revalidator;
+
+	// Constructors -----------------------------------------------------------
+
+
+	@PostConstruct
+	protected void initialise() {
+		this.circuitBreaker = new CircuitBreaker(this.failureThreshold, this.openDuration);
+		this.revalidator = Executors.newSingleThreadExecutor(runnable -> {
+			final Thread thread = new Thread(runnable, "money-exchange-revalidator");
+			thread.setDaemon(true);
+			return thread;
+		});
+		this.invalidationChannel.subscribe(CacheInvalidationChannel.EXCHANGE_RATES, this::reloadStored);
+	}
+
+	@PreDestroy
+	protected void destroy() {
+		this.revalidator.shutdownNow();
+	}
+
+	// Business methods -------------------------------------------------------
+
+
+	// Loads run in a transaction of their own, so that the rates they store
+	// are kept even when the caller is a read-only show or list service
+	@Transactional(propagation = Propagation.REQUIRES_NEW)
+	public ExchangeRate load(final String baseCurrency) {
+		assert !StringHelper.isBlank(baseCurrency);
+
+		ExchangeRate result;
+		CompletableFuture<ExchangeRate> flight, leader;
+
+		flight = new CompletableFuture<>();
+		leader = this.inFlight.putIfAbsent(baseCurrency, flight);
+		if (leader != null)
+			return this.await(leader);
+
+		try {
+			result = this.fetch(baseCurrency);
+			flight.complete(result);
+		} catch (final RuntimeException oops) {
+			flight.complete(null);
+			throw oops;
+		} finally {
+			this.inFlight.remove(baseCurrency, flight);
+		}
+
+		return result;
+	}
+
+	public void revalidate(final String baseCurrency) {
+		assert !StringHelper.isBlank(baseCurrency);
+
+		if (!this.inFlight.containsKey(baseCurrency) && this.circuitBreaker.isAvailable() && this.revalidating.add(baseCurrency))
+			this.revalidator.execute(() -> {
+				try {
+					this.self.load(baseCurrency);
+				} finally {
+					this.revalidating.remove(baseCurrency);
+				}
+			});
+	}
+
+	public void loadInBackground(final Money source, final String targetCurrency) {
+		assert source != null;
+		assert !StringHelper.isBlank(targetCurrency);
+
+		final String pivot;
+		final Money unit;
+
+		// The rate is what is loaded, so the source of the caller, which it is
+		// free to change, is not shared with the loading thread
+		pivot = this.findSystemCurrency();
+		unit = new Money();
+		unit.setAmount(1.0);
+		unit.setCurrency(source.getCurrency());
+		if (this.circuitBreaker.isAvailable())
+			this.revalidator.execute(() -> this.loadMissing(pivot, unit, targetCurrency));
+	}
+
+	@Transactional(propagation = Propagation.REQUIRES_NEW)
+	public MoneyExchange loadPair(final Money source, final String targetCurrency) {
+		assert source != null;
+		assert !StringHelper.isBlank(targetCurrency);
+
+		MoneyExchange result;
+
+		if (!this.circuitBreaker.allowRequest())
+			return null;
+
+		result = CalculateMoneyExchange.computeMoneyExchange(this.rateProvider, source, targetCurrency);
+		if (result == null)
+			this.circuitBreaker.recordFailure();
+		else {
+			this.circuitBreaker.recordSuccess();
+			this.storePair(source.getCurrency(), targetCurrency, result);
+		}
+
+		return result;
+	}
+
+	public void reloadStored() {
+		// Called when some other node has fetched new rates: they are read
+		// back from the table, so that this node does not ask the provider
+		// for them again. Only the rows of the latest date are read, whatever
+		// it is, and they replace the matrix only if they are newer than it
+		final Map<String, Double> rates = new HashMap<>();
+		final Collection<MoneyExchangeCache> caches;
+		ExchangeRateMatrix matrix;
+		ExchangeRate record;
+		String pivot;
+		Date date;
+
+		pivot = this.findSystemCurrency();
+		caches = this.repository.findCachesBySource(pivot);
+		date = null;
+		for (final MoneyExchangeCache cache : caches)
+			if (date == null || cache.getDate().getTime().after(date))
+				date = cache.getDate().getTime();
+
+		matrix = this.rateEngine.getMatrix();
+		if (date == null || matrix != null && matrix.getPivot().equals(pivot) && !date.after(matrix.getDate()))
+			return;
+
+		for (final MoneyExchangeCache cache : caches)
+			if (cache.getDate().getTime().equals(date)) {
+				rates.put(cache.getTarget(), cache.getRate());
+				this.rateCache.put(pivot, cache.getTarget(), cache.getRate(), date);
+			}
+
+		record = new ExchangeRate();
+		record.setBase(pivot);
+		record.setDate(date);
+		record.setRates(rates);
+		this.rateEngine.publish(pivot, record);
+	}
+
+	public CircuitBreaker.State getCircuitState() {
+		return this.circuitBreaker.getState();
+	}
+
+	public String findSystemCurrency() {
+		return this.configurationCache.getSystemCurrency();
+	}
+
+	public Set<String> findAcceptedCurrencies() {
+		// The callers are free to change the set they get
+		return new LinkedHashSet<>(this.configurationCache.getAcceptedCurrencies());
+	}
+
+	// Ancillary methods ------------------------------------------------------
+
+
+	protected ExchangeRate fetch(final String baseCurrency) {
+		assert !StringHelper.isBlank(baseCurrency);
+
+		ExchangeRate result;
+		Set<String> targetCurrencies;
+
+		targetCurrencies = this.findAcceptedCurrencies();
+		targetCurrencies.remove(baseCurrency);
+		if (targetCurrencies.isEmpty())
+			return null;
+
+		if (!this.circuitBreaker.allowRequest())
+			return null;
+
+		result = CalculateMoneyExchange.computeExchangeRates(this.rateProvider, baseCurrency, targetCurrencies);
+		if (result == null)
+			this.circuitBreaker.recordFailure();
+		else {
+			this.circuitBreaker.recordSuccess();
+			this.store(baseCurrency, result);
+			if (baseCurrency.equals(this.findSystemCurrency()))
+				this.publish(baseCurrency, result);
+			this.invalidationChannel.publish(CacheInvalidationChannel.EXCHANGE_RATES);
+		}
+
+		return result;
+	}
+
+	protected void loadMissing(final String pivot, final Money source, final String targetCurrency) {
+		assert !StringHelper.isBlank(pivot);
+		assert source != null;
+		assert !StringHelper.isBlank(targetCurrency);
+
+		ExchangeRateMatrix matrix;
+
+		// Requests that missed the same pair may have queued several loads:
+		// the ones that run after the first find the pair known already
+		matrix = this.rateEngine.getMatrix();
+		if (matrix == null || matrix.isExpired(System.currentTimeMillis()) || !matrix.covers(source.getCurrency(), targetCurrency)) {
+			this.self.load(pivot);
+			matrix = this.rateEngine.getMatrix();
+		}
+
+		if ((matrix == null || !matrix.covers(source.getCurrency(), targetCurrency)) && this.rateCache.get(source.getCurrency(), targetCurrency) == null)
+			this.self.loadPair(source, targetCurrency);
+	}
+
+	protected void publish(final String pivot, final ExchangeRate record) {
+		assert !StringHelper.isBlank(pivot);
+		assert record != null;
+
+		ExchangeRateMatrix previous;
+		boolean rolledOver;
+
+		previous = this.rateEngine.getMatrix();
+		rolledOver = previous == null || !previous.getPivot().equals(pivot) || !previous.getDate().equals(record.getDate());
+		this.rateEngine.publish(pivot, record);
+
+		if (rolledOver)
+			this.eventPublisher.publishEvent(new ExchangeRatesRolledOverEvent(pivot, record.getDate()));
+	}
+
+	protected ExchangeRate await(final CompletableFuture<ExchangeRate> flight) {
+		assert flight != null;
+
+		ExchangeRate result;
+
+		try {
+			result = flight.get(this.waitTimeout, TimeUnit.MILLISECONDS);
+		} catch (final InterruptedException oops) {
+			Thread.currentThread().interrupt();
+			result = null;
+		} catch (final ExecutionException | TimeoutException oops) {
+			result = null;
+		}
+
+		return result;
+	}
+
+	protected void store(final String baseCurrency, final ExchangeRate record) {
+		assert !StringHelper.isBlank(baseCurrency);
+		assert record != null;
+
+		Collection<MoneyExchangeCache> existing;
+		Map<String, MoneyExchangeCache> caches;
+		MoneyExchangeCache cache;
+		Calendar date;
+
+		existing = this.repository.findCachesBySource(baseCurrency);
+		caches = new HashMap<>();
+		for (final MoneyExchangeCache c : existing)
+			caches.put(c.getTarget(), c);
+
+		for (final Map.Entry<String, Double> rate : record.getRates().entrySet()) {
+			if (rate.getValue() == null)
+				continue;
+
+			cache = caches.get(rate.getKey());
+			if (cache == null) {
+				cache = new MoneyExchangeCache();
+				cache.setSource(baseCurrency);
+				cache.setTarget(rate.getKey());
+			}
+			date = Calendar.getInstance();
+			date.setTime(record.getDate());
+			cache.setDate(date);
+			cache.setRate(rate.getValue());
+			this.repository.save(cache);
+
+			this.rateCache.put(baseCurrency, rate.getKey(), rate.getValue(), record.getDate());
+		}
+	}
+
+	protected void storePair(final String sourceCurrency, final String targetCurrency, final MoneyExchange exchange) {
+		assert !StringHelper.isBlank(sourceCurrency);
+		assert !StringHelper.isBlank(targetCurrency);
+		assert exchange != null;
+
+		MoneyExchangeCache cache;
+		Calendar date;
+
+		cache = this.repository.findCacheBySourceAndTarget(sourceCurrency, targetCurrency).orElse(null);
+		if (cache == null) {
+			cache = new MoneyExchangeCache();
+			cache.setSource(sourceCurrency);
+			cache.setTarget(targetCurrency);
+		}
+		date = Calendar.getInstance();
+		date.setTime(exchange.getDate());
+		cache.setDate(date);
+		cache.setRate(exchange.getRate());
+		this.repository.save(cache);
+
+		this.rateCache.put(sourceCurrency, targetCurrency, exchange.getRate(), exchange.getDate());
+	}
+
+}
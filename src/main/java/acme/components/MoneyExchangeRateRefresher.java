@@ -0,0 +1,44 @@
+package acme.components;
+
+import org.springframework.beans.factory.annotation.Autowired;
+import org.springframework.beans.factory.annotation.Value;
+import org.springframework.scheduling.annotation.Scheduled;
+import org.springframework.stereotype.Component;
+
+/**
+ * Refreshes the rates of every accepted currency in the background, ahead of
+ * their expiry, so that request threads only read rates and never wait on the
+ * rate provider. A single vector against the system currency is fetched and
+ * every other pair is triangulated by the ExchangeRateEngine.
+ */
+@Component
+public class MoneyExchangeRateRefresher {
+
+	// Internal state ---------------------------------------------------------
+
+	@Autowired
+	protected MoneyExchangeRateLoader	rateLoader;
+
+	@Value("${acme.money-exchange.refresh.enabled:true}")
+	protected boolean					enabled;
+
+	// Business methods -------------------------------------------------------
+
+
+	public boolean isEnabled() {
+		return this.enabled;
+	}
+
+	@Scheduled(initialDelayString = "${acme.money-exchange.refresh.initial-delay:60000}", fixedDelayString = "${acme.money-exchange.refresh.interval:1800000}")
+	public void refresh() {
+		if (!this.enabled)
+			return;
+
+		String pivot;
+
+		pivot = this.rateLoader.findSystemCurrency();
+		if (pivot != null)
+			this.rateLoader.load(pivot);
+	}
+
+}
@@ -1,18 +1,21 @@
-package acme.features.authenticated.moneyExchange;
+package acme.components;
 
+import java.util.Collection;
 import java.util.Optional;
 
 import org.springframework.data.jpa.repository.Query;
+import org.springframework.stereotype.Repository;
 
 import acme.entities.MoneyExchangeCache;
 import acme.framework.repositories.AbstractRepository;
 
-public interface AuthenticatedMoneyExchangeRepository extends AbstractRepository {
-	
+@Repository
+public interface MoneyExchangeRepository extends AbstractRepository {
+
 	@Query("select c from MoneyExchangeCache c where c.source = :sourceCurrency and c.target=:targetCurrency")
 	Optional<MoneyExchangeCache> findCacheBySourceAndTarget(String sourceCurrency, String targetCurrency);
-	
-	@Query("select s.acceptedCurrencies from SystemConfiguration s")
-	String findAvailableCurrencies();
+
+	@Query("select c from MoneyExchangeCache c where c.source = :sourceCurrency")
+	Collection<MoneyExchangeCache> findCachesBySource(String sourceCurrency);
 
 }
@@ -0,0 +1,163 @@
+package acme.components;
+
+import java.util.ArrayList;
+import java.util.Collection;
+import java.util.Date;
+import java.util.HashMap;
+import java.util.List;
+import java.util.Map;
+import java.util.Optional;
+
+import org.springframework.beans.factory.annotation.Autowired;
+import org.springframework.stereotype.Service;
+
+import acme.entities.MoneyExchangeCache;
+import acme.forms.MoneyExchange;
+import acme.framework.datatypes.Money;
+import acme.framework.helpers.StringHelper;
+
+@Service
+public class MoneyExchangeService {
+
+	// Internal state ---------------------------------------------------------
+
+	@Autowired
+	protected MoneyExchangeRepository	repository;
+
+	@Autowired
+	protected MoneyExchangeRateCache	rateCache;
+
+	@Autowired
+	protected MoneyExchangeRateLoader	rateLoader;
+
+	@Autowired
+	protected ExchangeRateEngine		rateEngine;
+
+	// Business methods -------------------------------------------------------
+
+
+	public MoneyExchange getConversion(final Money source, final String targetCurrency) {
+		assert source != null;
+		assert !StringHelper.isBlank(targetCurrency);
+
+		MoneyExchange exchange;
+		MoneyExchangeCache cache;
+		MoneyExchangeRateCache.Entry entry;
+		ExchangeRateMatrix matrix;
+		String sourceCurrency, pivot;
+
+		sourceCurrency = source.getCurrency();
+		if (sourceCurrency.equals(targetCurrency))
+			return CalculateMoneyExchange.calculateMoneyExchangeFromRate(source, targetCurrency, 1.0, new Date());
+
+		matrix = this.rateEngine.getMatrix();
+		if (matrix != null && !matrix.isExpired(System.currentTimeMillis()) && matrix.covers(sourceCurrency, targetCurrency))
+			return CalculateMoneyExchange.calculateMoneyExchangeFromRate(source, targetCurrency, matrix.getRate(sourceCurrency, targetCurrency), matrix.getDate());
+
+		entry = this.rateCache.get(sourceCurrency, targetCurrency);
+		if (entry != null)
+			return CalculateMoneyExchange.calculateMoneyExchangeFromRate(source, targetCurrency, entry.getRate(), entry.getDate());
+
+		final Optional<MoneyExchangeCache> opt = this.repository.findCacheBySourceAndTarget(sourceCurrency, targetCurrency);
+		if (opt.isPresent() && Boolean.TRUE.equals(CalculateMoneyExchange.checkCache(opt.get()))) {
+			cache = opt.get();
+			this.rateCache.put(sourceCurrency, targetCurrency, cache.getRate(), cache.getDate().getTime());
+			return CalculateMoneyExchange.calculateMoneyExchangeFromCache(source, targetCurrency, cache);
+		}
+
+		// Stale while revalidate: if some rate is known, serve it flagged as stale
+		// and let the revalidator fetch a fresh one off the request thread.
+		pivot = this.rateLoader.findSystemCurrency();
+		exchange = this.findStale(source, targetCurrency, matrix, opt);
+		if (exchange != null) {
+			this.rateLoader.revalidate(pivot);
+			return exchange;
+		}
+
+		// Nothing is known of the pair: it is loaded off the request thread,
+		// and the callers go without a conversion in the meanwhile
+		this.rateLoader.loadInBackground(source, targetCurrency);
+
+		return null;
+	}
+
+	public Map<String, MoneyExchange> getRates(final Collection<String> sourceCurrencies, final String targetCurrency) {
+		assert sourceCurrencies != null;
+		assert !StringHelper.isBlank(targetCurrency);
+
+		Map<String, MoneyExchange> result;
+		Money unit;
+
+		// Every currency is converted as one unit of it, so that the result
+		// works as a rate table keyed by source currency
+		result = new HashMap<>();
+		for (final String sourceCurrency : sourceCurrencies)
+			if (!result.containsKey(sourceCurrency)) {
+				unit = new Money();
+				unit.setAmount(1.0);
+				unit.setCurrency(sourceCurrency);
+				result.put(sourceCurrency, this.getConversion(unit, targetCurrency));
+			}
+
+		return result;
+	}
+
+	public List<MoneyExchange> getConversions(final List<Money> sources, final String targetCurrency) {
+		assert sources != null;
+		assert !StringHelper.isBlank(targetCurrency);
+
+		List<MoneyExchange> result;
+		Map<String, MoneyExchange> quotes;
+		MoneyExchange quote, exchange;
+		String sourceCurrency;
+
+		// The inputs are grouped by source currency: the rate of every currency
+		// is resolved once, and the rest of its values are converted from it.
+		result = new ArrayList<>(sources.size());
+		quotes = new HashMap<>();
+		for (final Money source : sources) {
+			sourceCurrency = source.getCurrency();
+			if (quotes.containsKey(sourceCurrency)) {
+				quote = quotes.get(sourceCurrency);
+				if (quote == null)
+					exchange = null;
+				else {
+					exchange = CalculateMoneyExchange.calculateMoneyExchangeFromRate(source, targetCurrency, quote.getRate(), quote.getDate());
+					exchange.setStale(quote.isStale());
+				}
+			} else {
+				exchange = this.getConversion(source, targetCurrency);
+				quotes.put(sourceCurrency, exchange);
+			}
+			result.add(exchange);
+		}
+
+		return result;
+	}
+
+	// Ancillary methods ------------------------------------------------------
+
+
+	protected MoneyExchange findStale(final Money source, final String targetCurrency, final ExchangeRateMatrix matrix, final Optional<MoneyExchangeCache> cache) {
+		MoneyExchange result;
+		MoneyExchangeRateCache.Entry entry;
+		String sourceCurrency;
+
+		sourceCurrency = source.getCurrency();
+		entry = this.rateCache.getStale(sourceCurrency, targetCurrency);
+		if (matrix != null && matrix.covers(sourceCurrency, targetCurrency))
+			result = CalculateMoneyExchange.calculateMoneyExchangeFromRate(source, targetCurrency, matrix.getRate(sourceCurrency, targetCurrency), matrix.getDate());
+		else if (entry != null)
+			result = CalculateMoneyExchange.calculateMoneyExchangeFromRate(source, targetCurrency, entry.getRate(), entry.getDate());
+		else if (cache.isPresent())
+			result = CalculateMoneyExchange.calculateMoneyExchangeFromCache(source, targetCurrency, cache.get());
+		else
+			result = null;
+
+		if (result != null)
+			result.setStale(true);
+
+		return result;
+	}
+
+}
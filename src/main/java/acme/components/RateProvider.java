@@ -0,0 +1,19 @@
+package acme.components;
+
+import java.util.Collection;
+
+/**
+ * Source of exchange rates behind CalculateMoneyExchange. The implementation
+ * is chosen with the acme.money-exchange.provider property: "http" (default)
+ * queries the public rate API, "file" reads a local JSON snapshot, and
+ * "synthetic" computes deterministic rates without any I/O.
+ */
+public interface RateProvider {
+
+	/**
+	 * Returns the rates of the given target currencies against the base
+	 * currency, or null if they cannot be obtained.
+	 */
+	ExchangeRate getLatestRates(String baseCurrency, Collection<String> targetCurrencies);
+
+}
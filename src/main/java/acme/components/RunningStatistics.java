@@ -0,0 +1,149 @@
+package acme.components;
+
+/**
+ * Count, mean, deviation, minimum and maximum of a sample of values. Values
+ * are added and removed one at a time with Welford's method, and two
+ * samples are merged with the pairwise formula of Chan et al., so the
+ * variance is never taken as the difference of two large sums, which loses
+ * precision. The deviation is the population one, as the one computed by
+ * stddev in queries.
+ */
+public class RunningStatistics {
+
+	// Internal state ---------------------------------------------------------
+
+	protected long		count;
+
+	protected double	mean;
+
+	// Sum of the squared differences between the values and their mean
+	protected double	m2;
+
+	protected double	minimum	= Double.POSITIVE_INFINITY;
+
+	protected double	maximum	= Double.NEGATIVE_INFINITY;
+
+	// Constructors -----------------------------------------------------------
+
+
+	public RunningStatistics() {
+	}
+
+	public RunningStatistics(final long count, final double mean, final double squaredDeviations, final double minimum, final double maximum) {
+		assert count >= 0;
+		assert squaredDeviations >= 0.0;
+
+		if (count != 0) {
+			this.count = count;
+			this.mean = mean;
+			this.m2 = squaredDeviations;
+			this.minimum = minimum;
+			this.maximum = maximum;
+		}
+	}
+
+	public static RunningStatistics of(final long count, final double average, final double deviation, final double minimum, final double maximum) {
+		assert count >= 0;
+		assert deviation >= 0.0;
+
+		return new RunningStatistics(count, average, deviation * deviation * count, minimum, maximum);
+	}
+
+	// Business methods -------------------------------------------------------
+
+
+	public long getCount() {
+		return this.count;
+	}
+
+	public Double getAverage() {
+		return this.count == 0 ? null : this.mean;
+	}
+
+	public Double getDeviation() {
+		return this.count == 0 ? null : Math.sqrt(this.m2 / this.count);
+	}
+
+	public Double getMinimum() {
+		return this.count == 0 ? null : this.minimum;
+	}
+
+	public Double getMaximum() {
+		return this.count == 0 ? null : this.maximum;
+	}
+
+	public double getMean() {
+		return this.mean;
+	}
+
+	public double getSquaredDeviations() {
+		return this.m2;
+	}
+
+	public boolean isEmpty() {
+		return this.count == 0;
+	}
+
+	public void add(final double value) {
+		final double delta;
+
+		this.count++;
+		delta = value - this.mean;
+		this.mean += delta / this.count;
+		this.m2 += delta * (value - this.mean);
+		this.minimum = Math.min(this.minimum, value);
+		this.maximum = Math.max(this.maximum, value);
+	}
+
+	public boolean remove(final double value) {
+		assert this.count > 0;
+
+		final double delta;
+
+		if (this.count == 1) {
+			this.count = 0;
+			this.mean = 0.0;
+			this.m2 = 0.0;
+			this.minimum = Double.POSITIVE_INFINITY;
+			this.maximum = Double.NEGATIVE_INFINITY;
+			return false;
+		}
+
+		// Welford's step, undone; rounding may leave a tiny negative spread
+		delta = value - this.mean;
+		this.count--;
+		this.mean -= delta / this.count;
+		this.m2 = Math.max(0.0, this.m2 - delta * (value - this.mean));
+
+		// The bounds cannot be undone: when the value was one of them, the
+		// caller has to find the new ones in the remaining values
+		return value <= this.minimum || value >= this.maximum;
+	}
+
+	public void setBounds(final double minimum, final double maximum) {
+		assert this.count > 0;
+		assert minimum <= maximum;
+
+		this.minimum = minimum;
+		this.maximum = maximum;
+	}
+
+	public void merge(final RunningStatistics other) {
+		assert other != null;
+
+		final double delta;
+		final long total;
+
+		if (other.count == 0)
+			return;
+
+		total = this.count + other.count;
+		delta = other.mean - this.mean;
+		this.mean += delta * other.count / total;
+		this.m2 += other.m2 + delta * delta * this.count * other.count / total;
+		this.count = total;
+		this.minimum = Math.min(this.minimum, other.minimum);
+		this.maximum = Math.max(this.maximum, other.maximum);
+	}
+
+}
@@ -0,0 +1,97 @@
+package acme.components;
+
+import java.util.LinkedHashMap;
+import java.util.Map;
+import java.util.concurrent.atomic.AtomicLong;
+
+import org.springframework.beans.BeanWrapper;
+import org.springframework.beans.PropertyAccessorFactory;
+import org.springframework.beans.factory.annotation.Autowired;
+import org.springframework.stereotype.Component;
+
+import acme.framework.controllers.Errors;
+import acme.framework.controllers.Request;
+
+/**
+ * Spam validation of the text fields of an entity. The fields are read by
+ * name and every one of them is scored once against the compiled term lists
+ * of the cached system configuration; empty fields are not checked. The
+ * fields are checked one after another on the calling thread. The number of
+ * fields checked, the number found to be spam and the time spent are exposed
+ * through getters.
+ */
+@Component
+public class SpamFilter {
+
+	// Internal state ---------------------------------------------------------
+
+	@Autowired
+	protected SystemConfigurationCache	configurationCache;
+
+	protected final AtomicLong			checkedFields	= new AtomicLong();
+
+	protected final AtomicLong			spamFields		= new AtomicLong();
+
+	protected final AtomicLong			checkTime		= new AtomicLong();
+
+	// Business methods -------------------------------------------------------
+
+
+	public void validate(final Request<?> request, final Object entity, final Errors errors, final String code, final String... fields) {
+		assert request != null;
+		assert entity != null;
+		assert errors != null;
+		assert code != null;
+
+		Map<String, Boolean> verdicts;
+
+		verdicts = this.check(this.configurationCache.getSpamMatcher(), entity, fields);
+		for (final Map.Entry<String, Boolean> verdict : verdicts.entrySet())
+			errors.state(request, !verdict.getValue(), verdict.getKey(), code, "spam");
+	}
+
+	public Map<String, Boolean> check(final SpamMatcher matcher, final Object entity, final String... fields) {
+		assert matcher != null;
+		assert entity != null;
+		assert fields != null;
+
+		final Map<String, Boolean> result = new LinkedHashMap<>();
+		final BeanWrapper wrapper;
+		final long start;
+		String text;
+		boolean spam;
+		int checked;
+
+		start = System.nanoTime();
+		wrapper = PropertyAccessorFactory.forBeanPropertyAccess(entity);
+
+		checked = 0;
+		for (final String field : fields) {
+			text = (String) wrapper.getPropertyValue(field);
+			if (text != null && !text.isEmpty()) {
+				spam = matcher.isSpam(text);
+				result.put(field, spam);
+				checked++;
+				if (spam)
+					this.spamFields.incrementAndGet();
+			}
+		}
+		this.checkedFields.addAndGet(checked);
+		this.checkTime.addAndGet(System.nanoTime() - start);
+
+		return result;
+	}
+
+	public long getCheckedFields() {
+		return this.checkedFields.get();
+	}
+
+	public long getSpamFields() {
+		return this.spamFields.get();
+	}
+
+	public long getCheckTime() {
+		return this.checkTime.get();
+	}
+
+}
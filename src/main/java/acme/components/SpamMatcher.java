@@ -0,0 +1,228 @@
+package acme.components;
+
+import java.util.ArrayDeque;
+import java.util.ArrayList;
+import java.util.Arrays;
+import java.util.List;
+import java.util.Map;
+import java.util.Queue;
+import java.util.TreeMap;
+
+/**
+ * Compiled spam term lists. The strong and the weak terms are compiled into a
+ * single Aho-Corasick automaton, so that a text is scored against both lists
+ * in one pass, whatever the number of terms.
+ *
+ * Texts and terms are normalised as the spam detector does: blanks are
+ * removed, new lines are read as an 'n', letters are lower-cased and the
+ * text is trimmed. The score of a list is the number of characters covered by
+ * the occurrences of its terms over the length of the text, and a text is
+ * spam when either score is above the threshold of its list.
+ */
+public class SpamMatcher {
+
+	// Constants --------------------------------------------------------------
+
+	public static final int			STRONG	= 0;
+
+	public static final int			WEAK	= 1;
+
+	// Internal state ---------------------------------------------------------
+
+	protected final int				version;
+
+	protected final double[]		thresholds;
+
+	// Transitions of every state, as sorted characters and their targets
+	protected final char[][]		symbols;
+
+	protected final int[][]			targets;
+
+	protected final int[]			failures;
+
+	// Characters matched when a state is reached, per list, including the
+	// terms that end in the states reached through failure links
+	protected final int[][]			matched;
+
+	// Constructors -----------------------------------------------------------
+
+
+	public SpamMatcher(final int version, final String strongTerms, final double strongThreshold, final String weakTerms, final double weakThreshold) {
+		final List<Map<Character, Integer>> trie = new ArrayList<>();
+		final List<int[]> lengths = new ArrayList<>();
+		final int states;
+
+		this.version = version;
+		this.thresholds = new double[] {
+			strongThreshold, weakThreshold
+		};
+
+		trie.add(new TreeMap<>());
+		lengths.add(new int[2]);
+		SpamMatcher.addTerms(trie, lengths, strongTerms, SpamMatcher.STRONG);
+		SpamMatcher.addTerms(trie, lengths, weakTerms, SpamMatcher.WEAK);
+
+		states = trie.size();
+		this.symbols = new char[states][];
+		this.targets = new int[states][];
+		this.failures = new int[states];
+		this.matched = lengths.toArray(new int[states][]);
+
+		for (int state = 0; state < states; state++) {
+			final Map<Character, Integer> edges = trie.get(state);
+			int k = 0;
+
+			this.symbols[state] = new char[edges.size()];
+			this.targets[state] = new int[edges.size()];
+			for (final Map.Entry<Character, Integer> edge : edges.entrySet()) {
+				this.symbols[state][k] = edge.getKey();
+				this.targets[state][k] = edge.getValue();
+				k++;
+			}
+		}
+
+		this.computeFailures();
+	}
+
+	// Business methods -------------------------------------------------------
+
+
+	public int getVersion() {
+		return this.version;
+	}
+
+	public double getThreshold(final int list) {
+		return this.thresholds[list];
+	}
+
+	public double[] score(final String text) {
+		assert text != null;
+
+		final double[] result = new double[2];
+		int start, end, length, state;
+		char symbol;
+
+		start = 0;
+		end = text.length();
+		while (start < end && SpamMatcher.isTrimmed(text.charAt(start)))
+			start++;
+		while (end > start && SpamMatcher.isTrimmed(text.charAt(end - 1)))
+			end--;
+
+		length = 0;
+		state = 0;
+		for (int i = start; i < end; i++) {
+			symbol = text.charAt(i);
+			if (symbol == ' ')
+				continue;
+
+			length++;
+			state = this.step(state, SpamMatcher.normalise(symbol));
+			result[SpamMatcher.STRONG] += this.matched[state][SpamMatcher.STRONG];
+			result[SpamMatcher.WEAK] += this.matched[state][SpamMatcher.WEAK];
+		}
+
+		if (length != 0) {
+			result[SpamMatcher.STRONG] /= length;
+			result[SpamMatcher.WEAK] /= length;
+		}
+
+		return result;
+	}
+
+	public boolean isSpam(final String text) {
+		assert text != null;
+
+		return this.isSpam(this.score(text));
+	}
+
+	public boolean isSpam(final double[] scores) {
+		assert scores != null && scores.length == 2;
+
+		return scores[SpamMatcher.STRONG] > this.thresholds[SpamMatcher.STRONG] || scores[SpamMatcher.WEAK] > this.thresholds[SpamMatcher.WEAK];
+	}
+
+	// Ancillary methods ------------------------------------------------------
+
+
+	protected int step(final int state, final char symbol) {
+		int current, position;
+
+		current = state;
+		for (;;) {
+			position = Arrays.binarySearch(this.symbols[current], symbol);
+			if (position >= 0)
+				return this.targets[current][position];
+			if (current == 0)
+				return 0;
+			current = this.failures[current];
+		}
+	}
+
+	protected void computeFailures() {
+		final Queue<Integer> queue = new ArrayDeque<>();
+		int state, target, failure;
+
+		for (final int child : this.targets[0]) {
+			this.failures[child] = 0;
+			queue.add(child);
+		}
+
+		// States are visited breadth first, so the failure of a state is
+		// known before the failures of its children are computed
+		while (!queue.isEmpty()) {
+			state = queue.remove();
+			for (int k = 0; k < this.symbols[state].length; k++) {
+				target = this.targets[state][k];
+				failure = this.step(this.failures[state], this.symbols[state][k]);
+				this.failures[target] = failure;
+				this.matched[target][SpamMatcher.STRONG] += this.matched[failure][SpamMatcher.STRONG];
+				this.matched[target][SpamMatcher.WEAK] += this.matched[failure][SpamMatcher.WEAK];
+				queue.add(target);
+			}
+		}
+	}
+
+	protected static void addTerms(final List<Map<Character, Integer>> trie, final List<int[]> lengths, final String terms, final int list) {
+		int state, length;
+		Integer next;
+		char symbol;
+
+		if (terms == null)
+			return;
+
+		for (final String term : terms.split(";")) {
+			state = 0;
+			length = 0;
+			for (int i = 0; i < term.length(); i++) {
+				symbol = term.charAt(i);
+				if (symbol == ' ')
+					continue;
+
+				symbol = SpamMatcher.normalise(symbol);
+				next = trie.get(state).get(symbol);
+				if (next == null) {
+					next = trie.size();
+					trie.add(new TreeMap<>());
+					lengths.add(new int[2]);
+					trie.get(state).put(symbol, next);
+				}
+				state = next;
+				length++;
+			}
+
+			// Blank terms would match everywhere, so they are ignored
+			if (length != 0)
+				lengths.get(state)[list] += length;
+		}
+	}
+
+	protected static boolean isTrimmed(final char symbol) {
+		return symbol <= ' ' && symbol != '\n';
+	}
+
+	protected static char normalise(final char symbol) {
+		return symbol == '\n' ? 'n' : Character.toLowerCase(symbol);
+	}
+
+}
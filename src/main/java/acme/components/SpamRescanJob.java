@@ -0,0 +1,337 @@
+package acme.components;
+
+import java.util.ArrayList;
+import java.util.Date;
+import java.util.List;
+import java.util.concurrent.ExecutionException;
+import java.util.concurrent.ExecutorService;
+import java.util.concurrent.Executors;
+import java.util.concurrent.ForkJoinPool;
+import java.util.concurrent.atomic.AtomicBoolean;
+import java.util.concurrent.atomic.AtomicLong;
+import java.util.function.BiFunction;
+import java.util.stream.Collectors;
+
+import javax.annotation.PostConstruct;
+import javax.annotation.PreDestroy;
+
+import org.slf4j.Logger;
+import org.slf4j.LoggerFactory;
+import org.springframework.beans.factory.annotation.Autowired;
+import org.springframework.beans.factory.annotation.Value;
+import org.springframework.boot.context.event.ApplicationReadyEvent;
+import org.springframework.context.annotation.Lazy;
+import org.springframework.context.event.EventListener;
+import org.springframework.data.domain.PageRequest;
+import org.springframework.data.domain.Pageable;
+import org.springframework.scheduling.annotation.Scheduled;
+import org.springframework.stereotype.Component;
+import org.springframework.transaction.annotation.Transactional;
+import org.springframework.transaction.support.TransactionSynchronization;
+import org.springframework.transaction.support.TransactionSynchronizationManager;
+
+import acme.entities.ModerationFlag;
+
+/**
+ * Background job that re-scans the stored content once the spam lists or
+ * thresholds change, since the services only check content when it is
+ * written. The texts of chirps, announcements, items, toolkits, patronages,
+ * patronage reports and chimpums are read in chunks of rows, using the last
+ * identifier of a chunk as the key of the next one; every chunk is scored in
+ * parallel against the compiled lists, and the fields found to be spam are
+ * recorded as moderation flags. The flags of a chunk replace the ones of the
+ * previous scan for the same range of identifiers in a single transaction,
+ * so the flags are never lost halfway; a scan that fails is logged and
+ * requested again.
+ *
+ * The job is throttled so that it never competes with the requests: it runs
+ * on a thread of its own, scores on a small pool of its own, and pauses
+ * between chunks. Progress is exposed through getters.
+ */
+@Component
+public class SpamRescanJob {
+
+	// Constants --------------------------------------------------------------
+
+	protected static final Logger		LOGGER			= LoggerFactory.getLogger(SpamRescanJob.class);
+
+	// Internal state ---------------------------------------------------------
+
+	@Autowired
+	protected SpamRescanRepository		repository;
+
+	// The flags of a chunk are replaced through the proxy, in a transaction
+	// of their own that a call on this would bypass
+	@Lazy
+	@Autowired
+	protected SpamRescanJob				self;
+
+	@Autowired
+	protected SystemConfigurationCache	configurationCache;
+
+	@Value("${acme.spam.rescan.enabled:true}")
+	protected boolean					enabled;
+
+	@Value("${acme.spam.rescan.chunk-size:500}")
+	protected int						chunkSize;
+
+	@Value("${acme.spam.rescan.parallelism:2}")
+	protected int						parallelism;
+
+	@Value("${acme.spam.rescan.pause:100}")
+	protected long						pause;
+
+	protected List<Source>				sources;
+
+	protected ExecutorService			worker;
+
+	protected ForkJoinPool				pool;
+
+	// Lists and thresholds the stored content was last scanned against
+	protected volatile String			scannedLists;
+
+	protected volatile boolean			pending;
+
+	protected final AtomicBoolean		running			= new AtomicBoolean();
+
+	protected final AtomicLong			scannedRows		= new AtomicLong();
+
+	protected final AtomicLong			flaggedFields	= new AtomicLong();
+
+	protected final AtomicLong			chunks			= new AtomicLong();
+
+	protected volatile long				startedAt;
+
+	protected volatile long				duration;
+
+	// Constructors -----------------------------------------------------------
+
+
+	@PostConstruct
+	protected void initialise() {
+		assert this.chunkSize > 0;
+		assert this.parallelism > 0;
+		assert this.pause >= 0;
+
+		this.worker = Executors.newSingleThreadExecutor();
+		this.pool = new ForkJoinPool(this.parallelism);
+
+		this.sources = new ArrayList<>();
+		this.sources.add(new Source("Chirp", this.repository::findChirpTextsAfter, "title", "author", "body", "email"));
+		this.sources.add(new Source("Announcement", this.repository::findAnnouncementTextsAfter, "title", "body", "email", "moreInfo"));
+		this.sources.add(new Source("Item", this.repository::findItemTextsAfter, "name", "technology", "description", "moreInfo"));
+		this.sources.add(new Source("Toolkit", this.repository::findToolkitTextsAfter, "title", "description", "assemblyNotes", "moreInfo"));
+		this.sources.add(new Source("Patronage", this.repository::findPatronageTextsAfter, "legalStuff", "moreInfo"));
+		this.sources.add(new Source("PatronageReport", this.repository::findPatronageReportTextsAfter, "memorandum", "moreInfo"));
+		this.sources.add(new Source("Chimpum", this.repository::findChimpumTextsAfter, "title", "description"));
+	}
+
+	@PreDestroy
+	protected void destroy() {
+		this.worker.shutdownNow();
+		this.pool.shutdownNow();
+	}
+
+	// Business methods -------------------------------------------------------
+
+
+	@EventListener(ApplicationReadyEvent.class)
+	public void onApplicationReady() {
+		// Stored content was validated against the lists in place when the
+		// application starts, so only later changes require a scan
+		this.scannedLists = SpamRescanJob.describeLists(this.configurationCache.getSnapshot());
+	}
+
+	public void requestRescan() {
+		// Requested by the update of the system configuration, on a request
+		// thread; the scan is started later on, by the scheduler, and only
+		// once the update commits. Synchronizations run in the order they are
+		// registered, so the snapshot of the configuration has been swapped
+		// by then, and a rolled back update requests nothing
+		if (!TransactionSynchronizationManager.isSynchronizationActive())
+			this.pending = this.enabled;
+		else
+			TransactionSynchronizationManager.registerSynchronization(new TransactionSynchronization() {
+
+				@Override
+				public void afterCommit() {
+					SpamRescanJob.this.pending = SpamRescanJob.this.enabled;
+				}
+			});
+	}
+
+	@Scheduled(initialDelayString = "${acme.spam.rescan.interval:60000}", fixedDelayString = "${acme.spam.rescan.interval:60000}")
+	public void runIfPending() {
+		if (this.pending && !this.running.get()) {
+			this.pending = false;
+			this.worker.execute(this::run);
+		}
+	}
+
+	public void run() {
+		SystemConfigurationSnapshot configuration;
+		String lists;
+
+		if (!this.running.compareAndSet(false, true))
+			return;
+
+		try {
+			configuration = this.configurationCache.getSnapshot();
+			lists = SpamRescanJob.describeLists(configuration);
+			if (!lists.equals(this.scannedLists)) {
+				this.rescan(configuration);
+				this.scannedLists = lists;
+			}
+		} catch (final InterruptedException oops) {
+			Thread.currentThread().interrupt();
+		} catch (final RuntimeException oops) {
+			SpamRescanJob.LOGGER.error("The re-scan of the stored content failed; it will be retried", oops);
+			this.pending = this.enabled;
+		} finally {
+			this.running.set(false);
+		}
+	}
+
+	public boolean isRunning() {
+		return this.running.get();
+	}
+
+	public long getScannedRows() {
+		return this.scannedRows.get();
+	}
+
+	public long getFlaggedFields() {
+		return this.flaggedFields.get();
+	}
+
+	public long getChunks() {
+		return this.chunks.get();
+	}
+
+	public long getDuration() {
+		return this.running.get() ? System.currentTimeMillis() - this.startedAt : this.duration;
+	}
+
+	public double getThroughput() {
+		long millis;
+
+		millis = this.getDuration();
+
+		return millis == 0 ? 0.0 : this.scannedRows.get() * 1000.0 / millis;
+	}
+
+	@Transactional
+	public void replaceFlags(final String entityName, final int firstId, final int lastId, final List<ModerationFlag> flags) {
+		assert entityName != null;
+		assert flags != null;
+
+		this.repository.deleteFlagsBetween(entityName, firstId, lastId);
+		this.repository.saveAll(flags);
+	}
+
+	// Ancillary methods ------------------------------------------------------
+
+
+	protected void rescan(final SystemConfigurationSnapshot configuration) throws InterruptedException {
+		final SpamMatcher matcher = configuration.getSpamMatcher();
+		final Pageable chunk = PageRequest.of(0, this.chunkSize);
+		List<Object[]> rows;
+		int firstId, lastId;
+
+		this.startedAt = System.currentTimeMillis();
+		this.duration = 0L;
+		this.scannedRows.set(0L);
+		this.flaggedFields.set(0L);
+		this.chunks.set(0L);
+
+		for (final Source source : this.sources) {
+			lastId = 0;
+			do {
+				firstId = lastId + 1;
+				rows = source.finder.apply(lastId, chunk);
+				// The last chunk also drops the flags of the rows deleted
+				// after the previous scan beyond it
+				lastId = rows.size() < this.chunkSize ? Integer.MAX_VALUE : (Integer) rows.get(rows.size() - 1)[0];
+				this.scanChunk(source, rows, firstId, lastId, matcher);
+				if (lastId != Integer.MAX_VALUE)
+					Thread.sleep(this.pause);
+			} while (lastId != Integer.MAX_VALUE);
+		}
+
+		this.duration = System.currentTimeMillis() - this.startedAt;
+	}
+
+	protected void scanChunk(final Source source, final List<Object[]> rows, final int firstId, final int lastId, final SpamMatcher matcher) throws InterruptedException {
+		final Date moment = new Date();
+		List<ModerationFlag> flags;
+
+		try {
+			// A parallel stream started from a task of the pool runs on the
+			// pool, instead of on the common pool that the requests share
+			flags = this.pool.submit(() -> rows.parallelStream().flatMap(row -> SpamRescanJob.scanRow(source, row, matcher, moment).stream()).collect(Collectors.toList())).get();
+		} catch (final ExecutionException oops) {
+			throw new IllegalStateException(oops.getCause());
+		}
+
+		this.self.replaceFlags(source.name, firstId, lastId, flags);
+
+		this.scannedRows.addAndGet(rows.size());
+		this.flaggedFields.addAndGet(flags.size());
+		this.chunks.incrementAndGet();
+	}
+
+	protected static List<ModerationFlag> scanRow(final Source source, final Object[] row, final SpamMatcher matcher, final Date moment) {
+		final List<ModerationFlag> result = new ArrayList<>();
+		ModerationFlag flag;
+		double[] scores;
+		String text;
+
+		for (int i = 0; i < source.fields.length; i++) {
+			text = (String) row[i + 1];
+			if (text == null || text.isEmpty())
+				continue;
+
+			scores = matcher.score(text);
+			if (matcher.isSpam(scores)) {
+				flag = new ModerationFlag();
+				flag.setEntityName(source.name);
+				flag.setEntityId((Integer) row[0]);
+				flag.setField(source.fields[i]);
+				flag.setStrongScore(scores[SpamMatcher.STRONG]);
+				flag.setWeakScore(scores[SpamMatcher.WEAK]);
+				flag.setFlagMoment(moment);
+				result.add(flag);
+			}
+		}
+
+		return result;
+	}
+
+	protected static String describeLists(final SystemConfigurationSnapshot configuration) {
+		return String.format("%s|%s|%s|%s", configuration.getStrongSpam(), configuration.getStrongThreshold(), configuration.getWeakSpam(), configuration.getWeakThreshold());
+	}
+
+
+	protected static class Source {
+
+		// Internal state -----------------------------------------------------
+
+		protected final String										name;
+
+		protected final BiFunction<Integer, Pageable, List<Object[]>>	finder;
+
+		// Columns that follow the identifier in the rows of the finder
+		protected final String[]									fields;
+
+		// Constructors -------------------------------------------------------
+
+
+		protected Source(final String name, final BiFunction<Integer, Pageable, List<Object[]>> finder, final String... fields) {
+			this.name = name;
+			this.finder = finder;
+			this.fields = fields;
+		}
+
+	}
+
+}
@@ -0,0 +1,42 @@
+package acme.components;
+
+import java.util.List;
+
+import org.springframework.data.domain.Pageable;
+import org.springframework.data.jpa.repository.Modifying;
+import org.springframework.data.jpa.repository.Query;
+import org.springframework.stereotype.Repository;
+import org.springframework.transaction.annotation.Transactional;
+
+import acme.framework.repositories.AbstractRepository;
+
+@Repository
+public interface SpamRescanRepository extends AbstractRepository {
+
+	@Query("select c.id, c.title, c.author, c.body, c.email from Chirp c where c.id > :lastId order by c.id")
+	List<Object[]> findChirpTextsAfter(int lastId, Pageable chunk);
+
+	@Query("select a.id, a.title, a.body, a.email, a.moreInfo from Announcement a where a.id > :lastId order by a.id")
+	List<Object[]> findAnnouncementTextsAfter(int lastId, Pageable chunk);
+
+	@Query("select i.id, i.name, i.technology, i.description, i.moreInfo from Item i where i.id > :lastId order by i.id")
+	List<Object[]> findItemTextsAfter(int lastId, Pageable chunk);
+
+	@Query("select t.id, t.title, t.description, t.assemblyNotes, t.moreInfo from Toolkit t where t.id > :lastId order by t.id")
+	List<Object[]> findToolkitTextsAfter(int lastId, Pageable chunk);
+
+	@Query("select p.id, p.legalStuff, p.moreInfo from Patronage p where p.id > :lastId order by p.id")
+	List<Object[]> findPatronageTextsAfter(int lastId, Pageable chunk);
+
+	@Query("select pr.id, pr.memorandum, pr.moreInfo from PatronageReport pr where pr.id > :lastId order by pr.id")
+	List<Object[]> findPatronageReportTextsAfter(int lastId, Pageable chunk);
+
+	@Query("select c.id, c.title, c.description from Chimpum c where c.id > :lastId order by c.id")
+	List<Object[]> findChimpumTextsAfter(int lastId, Pageable chunk);
+
+	@Modifying
+	@Transactional
+	@Query("delete from ModerationFlag mf where mf.entityName = :entityName and mf.entityId between :firstId and :lastId")
+	int deleteFlagsBetween(String entityName, int firstId, int lastId);
+
+}
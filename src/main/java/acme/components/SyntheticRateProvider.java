@@ -0,0 +1,59 @@
+package acme.components;
+
+import java.util.Calendar;
+import java.util.Collection;
+import java.util.HashMap;
+import java.util.Map;
+
+import org.springframework.boot.autoconfigure.condition.ConditionalOnProperty;
+import org.springframework.stereotype.Component;
+
+import acme.framework.helpers.StringHelper;
+
+/**
+ * Computes deterministic rates from the currency codes alone, so that
+ * benchmarks of the pricing paths run without any network or file noise.
+ * Every currency is given a fixed value and cross rates are consistent.
+ */
+@Component
+@ConditionalOnProperty(name = "acme.money-exchange.provider", havingValue = "synthetic")
+public class SyntheticRateProvider implements RateProvider {
+
+	// RateProvider interface -------------------------------------------------
+
+	@Override
+	public ExchangeRate getLatestRates(final String baseCurrency, final Collection<String> targetCurrencies) {
+		assert !StringHelper.isBlank(baseCurrency);
+		assert targetCurrencies != null && !targetCurrencies.isEmpty();
+
+		ExchangeRate result;
+		Map<String, Double> rates;
+		Calendar today;
+
+		rates = new HashMap<>();
+		for (final String targetCurrency : targetCurrencies)
+			rates.put(targetCurrency, SyntheticRateProvider.value(baseCurrency) / SyntheticRateProvider.value(targetCurrency));
+
+		today = Calendar.getInstance();
+		today.set(Calendar.HOUR_OF_DAY, 0);
+		today.set(Calendar.MINUTE, 0);
+		today.set(Calendar.SECOND, 0);
+		today.set(Calendar.MILLISECOND, 0);
+
+		result = new ExchangeRate();
+		result.setBase(baseCurrency);
+		result.setDate(today.getTime());
+		result.setRates(rates);
+
+		return result;
+	}
+
+	// Ancillary methods ------------------------------------------------------
+
+
+	protected static double value(final String currency) {
+		// Value of one unit of the currency, in an imaginary unit, in [0.5, 2.5)
+		return 0.5 + Math.floorMod(currency.hashCode(), 2000) / 1000.0;
+	}
+
+}
@@ -0,0 +1,108 @@
+package acme.components;
+
+import java.util.Set;
+import java.util.concurrent.atomic.AtomicReference;
+
+import javax.annotation.PostConstruct;
+
+import org.springframework.beans.factory.annotation.Autowired;
+import org.springframework.stereotype.Component;
+import org.springframework.transaction.support.TransactionSynchronization;
+import org.springframework.transaction.support.TransactionSynchronizationManager;
+
+import acme.entities.SystemConfiguration;
+
+/**
+ * In-process cache of the system configuration. The row is read once, the
+ * first time it is needed, into an immutable SystemConfigurationSnapshot;
+ * from then on, reads cost no queries. When the configuration is updated,
+ * the snapshot is swapped once the transaction that saves it commits, so
+ * that no request sees a configuration that may still be rolled back.
+ *
+ * Updates done on other nodes arrive through the CacheInvalidationChannel,
+ * and the row is then read again. Snapshots are only ever replaced by
+ * snapshots of a later version, so a slow load cannot overwrite an update
+ * swapped in the meanwhile.
+ */
+@Component
+public class SystemConfigurationCache {
+
+	// Internal state ---------------------------------------------------------
+
+	@Autowired
+	protected SystemConfigurationRepository							repository;
+
+	@Autowired
+	protected CacheInvalidationChannel								invalidationChannel;
+
+	protected final AtomicReference<SystemConfigurationSnapshot>	snapshot	= new AtomicReference<>();
+
+	// Constructors -----------------------------------------------------------
+
+
+	@PostConstruct
+	protected void initialise() {
+		this.invalidationChannel.subscribe(CacheInvalidationChannel.SYSTEM_CONFIGURATION, this::reload);
+	}
+
+	// Business methods -------------------------------------------------------
+
+
+	public SystemConfigurationSnapshot getSnapshot() {
+		SystemConfigurationSnapshot result;
+
+		result = this.snapshot.get();
+		if (result == null)
+			result = this.swap(new SystemConfigurationSnapshot(this.repository.findSystemConfiguration()));
+
+		return result;
+	}
+
+	public String getSystemCurrency() {
+		return this.getSnapshot().getSystemCurrency();
+	}
+
+	public Set<String> getAcceptedCurrencies() {
+		return this.getSnapshot().getAcceptedCurrencies();
+	}
+
+	public boolean isAcceptedCurrency(final String currency) {
+		return this.getSnapshot().isAcceptedCurrency(currency);
+	}
+
+	public SpamMatcher getSpamMatcher() {
+		return this.getSnapshot().getSpamMatcher();
+	}
+
+	public void update(final SystemConfiguration configuration) {
+		assert configuration != null;
+
+		if (!TransactionSynchronizationManager.isSynchronizationActive())
+			this.swap(new SystemConfigurationSnapshot(configuration));
+		else
+			TransactionSynchronizationManager.registerSynchronization(new TransactionSynchronization() {
+
+				@Override
+				public void afterCommit() {
+					// The version of the entity was increased when it was
+					// flushed, so the snapshot supersedes the current one
+					SystemConfigurationCache.this.swap(new SystemConfigurationSnapshot(configuration));
+				}
+			});
+	}
+
+	public void reload() {
+		// Called when the configuration has been updated on some node
+		this.swap(new SystemConfigurationSnapshot(this.repository.findSystemConfiguration()));
+	}
+
+	// Ancillary methods ------------------------------------------------------
+
+
+	protected SystemConfigurationSnapshot swap(final SystemConfigurationSnapshot candidate) {
+		assert candidate != null;
+
+		return this.snapshot.accumulateAndGet(candidate, (current, next) -> current == null || current.getVersion() < next.getVersion() ? next : current);
+	}
+
+}
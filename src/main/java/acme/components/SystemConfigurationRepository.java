@@ -0,0 +1,15 @@
+package acme.components;
+
+import org.springframework.data.jpa.repository.Query;
+import org.springframework.stereotype.Repository;
+
+import acme.entities.SystemConfiguration;
+import acme.framework.repositories.AbstractRepository;
+
+@Repository
+public interface SystemConfigurationRepository extends AbstractRepository {
+
+	@Query("select sc from SystemConfiguration sc")
+	SystemConfiguration findSystemConfiguration();
+
+}
@@ -0,0 +1,99 @@
+package acme.components;
+
+import java.util.Collections;
+import java.util.LinkedHashSet;
+import java.util.Set;
+
+import acme.entities.SystemConfiguration;
+import acme.framework.helpers.StringHelper;
+
+/**
+ * Immutable copy of the system configuration, taken from the row at a given
+ * version. The accepted currencies are parsed into a set and the spam lists
+ * are compiled into a SpamMatcher once, when the snapshot is taken, so that
+ * reading them costs neither a query nor any parsing.
+ */
+public class SystemConfigurationSnapshot {
+
+	// Internal state ---------------------------------------------------------
+
+	protected final int			version;
+
+	protected final String		systemCurrency;
+
+	protected final Set<String>	acceptedCurrencies;
+
+	protected final String		strongSpam;
+
+	protected final double		strongThreshold;
+
+	protected final String		weakSpam;
+
+	protected final double		weakThreshold;
+
+	protected final SpamMatcher	spamMatcher;
+
+	// Constructors -----------------------------------------------------------
+
+
+	public SystemConfigurationSnapshot(final SystemConfiguration configuration) {
+		assert configuration != null;
+
+		final Set<String> currencies;
+
+		currencies = new LinkedHashSet<>();
+		if (configuration.getAcceptedCurrencies() != null)
+			for (final String currency : configuration.getAcceptedCurrencies().split(";"))
+				if (!StringHelper.isBlank(currency))
+					currencies.add(currency.trim());
+
+		this.version = configuration.getVersion();
+		this.systemCurrency = configuration.getSystemCurrency();
+		this.acceptedCurrencies = Collections.unmodifiableSet(currencies);
+		this.strongSpam = configuration.getStrongSpam();
+		this.strongThreshold = configuration.getStrongThreshold();
+		this.weakSpam = configuration.getWeakSpam();
+		this.weakThreshold = configuration.getWeakThreshold();
+		this.spamMatcher = new SpamMatcher(this.version, this.strongSpam, this.strongThreshold, this.weakSpam, this.weakThreshold);
+	}
+
+	// Business methods -------------------------------------------------------
+
+
+	public int getVersion() {
+		return this.version;
+	}
+
+	public String getSystemCurrency() {
+		return this.systemCurrency;
+	}
+
+	public Set<String> getAcceptedCurrencies() {
+		return this.acceptedCurrencies;
+	}
+
+	public boolean isAcceptedCurrency(final String currency) {
+		return currency != null && this.acceptedCurrencies.contains(currency);
+	}
+
+	public String getStrongSpam() {
+		return this.strongSpam;
+	}
+
+	public double getStrongThreshold() {
+		return this.strongThreshold;
+	}
+
+	public String getWeakSpam() {
+		return this.weakSpam;
+	}
+
+	public double getWeakThreshold() {
+		return this.weakThreshold;
+	}
+
+	public SpamMatcher getSpamMatcher() {
+		return this.spamMatcher;
+	}
+
+}
@@ -0,0 +1,25 @@
+package acme.components;
+
+import java.util.Date;
+
+import lombok.AllArgsConstructor;
+import lombok.Getter;
+
+/**
+ * One line of a toolkit as needed to price it: the quantity and the prices
+ * of its item, read in a single projection instead of loading the items.
+ */
+@Getter
+@AllArgsConstructor
+public class ToolkitPriceLine {
+
+	// Internal state ---------------------------------------------------------
+
+	private final Integer	quantity;
+	private final Double	retailAmount;
+	private final String	retailCurrency;
+	private final Double	convertedAmount;
+	private final String	convertedCurrency;
+	private final Date		exchangeDate;
+
+}
@@ -0,0 +1,34 @@
+package acme.components;
+
+import java.util.Collection;
+import java.util.Date;
+import java.util.List;
+
+import org.springframework.data.domain.Pageable;
+
+import org.springframework.data.jpa.repository.Modifying;
+import org.springframework.data.jpa.repository.Query;
+import org.springframework.stereotype.Repository;
+import org.springframework.transaction.annotation.Transactional;
+
+import acme.entities.Toolkit;
+import acme.framework.repositories.AbstractRepository;
+
+@Repository
+public interface ToolkitPriceRepository extends AbstractRepository {
+
+	@Query("select new acme.components.ToolkitPriceLine(iq.quantity, i.retailPrice.amount, i.retailPrice.currency, i.convertedPrice.amount, i.convertedPrice.currency, i.exchangeDate) from ItemQuantity iq join iq.item i where iq.toolkit.id = :id")
+	Collection<ToolkitPriceLine> findPriceLinesOfToolkit(int id);
+
+	@Modifying
+	@Transactional
+	@Query("update Item i set i.convertedPrice.amount = i.retailPrice.amount * :rate, i.convertedPrice.currency = :targetCurrency, i.exchangeDate = :date where i.retailPrice.currency = :sourceCurrency and i.id in (select iq.item.id from ItemQuantity iq where iq.toolkit.id = :id)")
+	int updateConvertedPricesOfToolkit(int id, String sourceCurrency, String targetCurrency, double rate, Date date);
+
+	@Query("select distinct iq.toolkit from ItemQuantity iq where iq.item.id = :id")
+	Collection<Toolkit> findToolkitsOfItem(int id);
+
+	@Query("select t from Toolkit t where t.id > :lastId order by t.id")
+	List<Toolkit> findToolkitsAfter(int lastId, Pageable chunk);
+
+}
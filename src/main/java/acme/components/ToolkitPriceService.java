@@ -0,0 +1,232 @@
+package acme.components;
+
+import java.util.ArrayList;
+import java.util.Calendar;
+import java.util.Collection;
+import java.util.Collections;
+import java.util.Date;
+import java.util.HashSet;
+import java.util.List;
+import java.util.Map;
+import java.util.Set;
+
+import org.springframework.beans.factory.annotation.Autowired;
+import org.springframework.data.domain.Pageable;
+import org.springframework.stereotype.Service;
+import org.springframework.transaction.annotation.Transactional;
+
+import acme.entities.Item;
+import acme.entities.Toolkit;
+import acme.forms.MoneyExchange;
+import acme.framework.datatypes.Money;
+
+/**
+ * Maintains Toolkit.totalPrice as a materialised value in the system
+ * currency. Adding, changing or removing an item quantity applies the change
+ * to the stored total; a toolkit is only walked in full when its total is
+ * missing or in another currency, when the price of one of its items
+ * changes, or when the exchange rates roll over; in the last case, every
+ * toolkit is repriced in chunks by the ItemRepricingJob, once it has
+ * repriced the items, and once when the application starts, so that the
+ * stored totals are never trusted before they have been computed here.
+ *
+ * A total is only stored when every line could be converted. When a line is
+ * in a currency with no rate and no converted price yet, the toolkit is left
+ * without a total, so the next change or run prices it again instead of
+ * trusting a partial sum.
+ */
+@Service
+public class ToolkitPriceService {
+
+	// Internal state ---------------------------------------------------------
+
+	@Autowired
+	protected ToolkitPriceRepository	repository;
+
+	@Autowired
+	protected MoneyExchangeService		exchangeService;
+
+	@Autowired
+	protected SystemConfigurationCache	configurationCache;
+
+	// Business methods -------------------------------------------------------
+
+
+	public boolean isPriced(final Toolkit toolkit) {
+		assert toolkit != null;
+
+		Money total;
+
+		total = toolkit.getTotalPrice();
+
+		return total != null && total.getCurrency() != null && total.getCurrency().equals(this.configurationCache.getSystemCurrency());
+	}
+
+	public Money getTotalPrice(final Toolkit toolkit) {
+		assert toolkit != null;
+
+		Money result;
+
+		// A toolkit that has not been priced yet is priced in memory, so that
+		// showing it never writes to the database; it has no price if some of
+		// its lines cannot be converted
+		if (this.isPriced(toolkit))
+			result = toolkit.getTotalPrice();
+		else
+			result = this.calculateTotalPrice(toolkit, false);
+
+		return result;
+	}
+
+	public void addItem(final Toolkit toolkit, final Item item, final int quantity) {
+		assert toolkit != null;
+		assert item != null;
+
+		String systemCurrency;
+		MoneyAccumulator sum;
+
+		if (quantity == 0)
+			return;
+
+		if (!this.isPriced(toolkit)) {
+			this.reprice(toolkit);
+			return;
+		}
+
+		systemCurrency = this.configurationCache.getSystemCurrency();
+		sum = new MoneyAccumulator(systemCurrency);
+		sum.add(toolkit.getTotalPrice().getAmount(), 1);
+
+		toolkit.setTotalPrice(this.addLine(sum, item, quantity, systemCurrency) ? sum.toMoney() : null);
+		this.repository.save(toolkit);
+	}
+
+	public void repriceItem(final Item item) {
+		assert item != null;
+
+		Collection<Toolkit> toolkits;
+
+		toolkits = this.repository.findToolkitsOfItem(item.getId());
+		for (final Toolkit toolkit : toolkits)
+			this.reprice(toolkit);
+	}
+
+	public void reprice(final Toolkit toolkit) {
+		assert toolkit != null;
+
+		toolkit.setTotalPrice(this.calculateTotalPrice(toolkit, true));
+		this.repository.save(toolkit);
+	}
+
+	// Reprices the toolkits that follow the given identifier, up to a chunk of
+	// them, in a transaction of their own; returns their identifiers in order
+	@Transactional
+	public List<Integer> repriceToolkitsAfter(final int lastId, final Pageable chunk) {
+		assert chunk != null;
+
+		final List<Integer> result = new ArrayList<>();
+
+		for (final Toolkit toolkit : this.repository.findToolkitsAfter(lastId, chunk)) {
+			this.reprice(toolkit);
+			result.add(toolkit.getId());
+		}
+
+		return result;
+	}
+
+	// Ancillary methods ------------------------------------------------------
+
+
+	// Returns null if some line cannot be converted
+	protected Money calculateTotalPrice(final Toolkit toolkit, final boolean storeConversions) {
+		final String systemCurrency = this.configurationCache.getSystemCurrency();
+		final MoneyAccumulator sum = new MoneyAccumulator(systemCurrency);
+		final Collection<ToolkitPriceLine> lines;
+		final Set<String> currencies = new HashSet<>();
+		final Map<String, MoneyExchange> rates;
+		MoneyExchange rate;
+		boolean complete;
+
+		lines = this.repository.findPriceLinesOfToolkit(toolkit.getId());
+		for (final ToolkitPriceLine line : lines)
+			if (!systemCurrency.equals(line.getRetailCurrency()) && !this.isConvertedToday(line, systemCurrency))
+				currencies.add(line.getRetailCurrency());
+
+		// The rate of every outdated currency is resolved once, up front, so
+		// that the lines are summed in a single pass against a rate table
+		rates = currencies.isEmpty() ? Collections.emptyMap() : this.exchangeService.getRates(currencies, systemCurrency);
+
+		complete = true;
+		for (final ToolkitPriceLine line : lines)
+			if (systemCurrency.equals(line.getRetailCurrency()))
+				sum.add(line.getRetailAmount(), line.getQuantity());
+			else if (this.isConvertedToday(line, systemCurrency))
+				sum.add(line.getConvertedAmount(), line.getQuantity());
+			else {
+				rate = rates.get(line.getRetailCurrency());
+				if (rate != null)
+					sum.add(line.getRetailAmount(), rate.getRate(), line.getQuantity());
+				else if (line.getConvertedAmount() != null)
+					// No rate is available at all: fall back to the last converted price
+					sum.add(line.getConvertedAmount(), line.getQuantity());
+				else
+					complete = false;
+			}
+
+		if (storeConversions)
+			for (final Map.Entry<String, MoneyExchange> entry : rates.entrySet())
+				if (entry.getValue() != null)
+					this.repository.updateConvertedPricesOfToolkit(toolkit.getId(), entry.getKey(), systemCurrency, entry.getValue().getRate(), entry.getValue().getDate());
+
+		return complete ? sum.toMoney() : null;
+	}
+
+	// Returns false if the line cannot be converted
+	protected boolean addLine(final MoneyAccumulator sum, final Item item, final int quantity, final String systemCurrency) {
+		final Money money = item.getRetailPrice();
+		final MoneyExchange exchange;
+
+		if (systemCurrency.equals(money.getCurrency()))
+			sum.add(money.getAmount(), quantity);
+		else if (this.isConvertedToday(item))
+			sum.add(item.getConvertedPrice().getAmount(), quantity);
+		else {
+			exchange = this.exchangeService.getConversion(money, systemCurrency);
+			if (exchange != null) {
+				this.storeConversion(item, exchange);
+				sum.add(money.getAmount(), exchange.getRate(), quantity);
+			} else if (item.getConvertedPrice() != null)
+				sum.add(item.getConvertedPrice().getAmount(), quantity);
+			else
+				return false;
+		}
+
+		return true;
+	}
+
+	protected void storeConversion(final Item item, final MoneyExchange exchange) {
+		item.setConvertedPrice(exchange.getTarget());
+		item.setExchangeDate(exchange.getDate());
+		this.repository.save(item);
+	}
+
+	protected boolean isConvertedToday(final Item item) {
+		return item.getConvertedPrice() != null && this.isToday(item.getExchangeDate());
+	}
+
+	protected boolean isConvertedToday(final ToolkitPriceLine line, final String systemCurrency) {
+		return line.getConvertedAmount() != null && systemCurrency.equals(line.getConvertedCurrency()) && this.isToday(line.getExchangeDate());
+	}
+
+	protected boolean isToday(final Date date) {
+		final Calendar exchangeDate = Calendar.getInstance();
+		final Calendar today = Calendar.getInstance();
+
+		if (date == null)
+			return false;
+
+		exchangeDate.setTime(date);
+		return exchangeDate.get(Calendar.DATE) == today.get(Calendar.DATE) && exchangeDate.get(Calendar.MONTH) == today.get(Calendar.MONTH) && exchangeDate.get(Calendar.YEAR) == today.get(Calendar.YEAR);
+	}
+
+}
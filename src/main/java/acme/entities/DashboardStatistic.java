@@ -0,0 +1,57 @@
+package acme.entities;
+
+import javax.persistence.Entity;
+import javax.validation.constraints.Min;
+import javax.validation.constraints.NotNull;
+
+import acme.framework.entities.AbstractEntity;
+import lombok.Getter;
+import lombok.Setter;
+
+/**
+ * Running statistics of the values of a kind in a group, kept up to date as
+ * the values are written. The dimensions a kind is not grouped by are left
+ * empty, or zero.
+ */
+@Entity
+@Getter
+@Setter
+public class DashboardStatistic extends AbstractEntity {
+
+	// Serialisation identifier -----------------------------------------------
+
+	protected static final long			serialVersionUID	= 1L;
+
+	// Attributes -------------------------------------------------------------
+
+	@NotNull
+	protected DashboardStatisticKind	kind;
+
+	protected int						patronId;
+
+	@NotNull
+	protected String					status;
+
+	@NotNull
+	protected String					itemType;
+
+	@NotNull
+	protected String					technology;
+
+	@NotNull
+	protected String					currency;
+
+	@Min(0)
+	protected long						sampleSize;
+
+	protected double					mean;
+
+	// Sum of the squared differences between the values and their mean
+	@Min(0)
+	protected double					squaredDeviations;
+
+	protected double					minimum;
+
+	protected double					maximum;
+
+}
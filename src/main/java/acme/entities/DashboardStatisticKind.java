@@ -0,0 +1,5 @@
+package acme.entities;
+
+public enum DashboardStatisticKind {
+	PATRONAGE_BUDGET, ITEM_PRICE, CHIMPUM_BUDGET
+}
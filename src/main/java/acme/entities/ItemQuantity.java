@@ -3,6 +3,8 @@ package acme.entities;
 
 import javax.persistence.Entity;
 import javax.persistence.ManyToOne;
+import javax.persistence.PostLoad;
+import javax.persistence.Transient;
 import javax.validation.Valid;
 import javax.validation.constraints.Min;
 import javax.validation.constraints.NotNull;
@@ -27,6 +29,13 @@ public class ItemQuantity extends AbstractEntity{
 	@Min(1)
 	private Integer quantity;
 	
+	// Derived attributes -----------------------------------------------------
+	
+	// Quantity as it was read from the database, so that updates can tell
+	// how much the toolkit total changes
+	@Transient
+	protected Integer loadedQuantity;
+	
 	// Relationships ----------------------------------------------------------
 	
 	@NotNull
@@ -39,5 +48,11 @@ public class ItemQuantity extends AbstractEntity{
 	@ManyToOne(optional=false)
 	protected Item item;
 	
+	// Lifecycle callbacks ----------------------------------------------------
+	
+	@PostLoad
+	protected void recordLoadedQuantity() {
+		this.loadedQuantity = this.quantity;
+	}
 
 }
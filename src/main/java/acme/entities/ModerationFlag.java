@@ -0,0 +1,42 @@
+package acme.entities;
+
+import java.util.Date;
+
+import javax.persistence.Entity;
+import javax.persistence.Temporal;
+import javax.persistence.TemporalType;
+import javax.validation.constraints.NotBlank;
+import javax.validation.constraints.NotNull;
+
+import acme.framework.entities.AbstractEntity;
+import lombok.Getter;
+import lombok.Setter;
+
+@Entity
+@Getter
+@Setter
+public class ModerationFlag extends AbstractEntity {
+
+	// Serialisation identifier -----------------------------------------------
+
+	protected static final long	serialVersionUID	= 1L;
+
+	// Attributes -------------------------------------------------------------
+
+	@NotBlank
+	protected String			entityName;
+
+	protected int				entityId;
+
+	@NotBlank
+	protected String			field;
+
+	protected double			strongScore;
+
+	protected double			weakScore;
+
+	@NotNull
+	@Temporal(TemporalType.TIMESTAMP)
+	protected Date				flagMoment;
+
+}
@@ -1,17 +1,12 @@
 package acme.features.administrator.announcement;
 
-import java.util.Collections;
 import java.util.Date;
-import java.util.LinkedList;
-import java.util.List;
 
 import org.springframework.beans.factory.annotation.Autowired;
 import org.springframework.stereotype.Service;
 
+import acme.components.SpamFilter;
 import acme.entities.Announcement;
-import acme.entities.SystemConfiguration;
-import acme.features.administrator.systemConfiguration.AdministratorSystemConfigurationRepository;
-import acme.features.spam.SpamDetector;
 import acme.framework.components.models.Model;
 import acme.framework.controllers.Errors;
 import acme.framework.controllers.Request;
@@ -27,7 +22,7 @@ public class AdministratorAnnouncementCreateService implements AbstractCreateSer
 		protected AdministratorAnnouncementRepository repository;
 		
 		@Autowired
-		protected AdministratorSystemConfigurationRepository	scRepo;
+		protected SpamFilter spamFilter;
 
 		// AbstractCreateService<Administrator, Announcement> interface --------------
 
@@ -83,34 +78,7 @@ public class AdministratorAnnouncementCreateService implements AbstractCreateSer
 			assert entity != null;
 			assert errors != null;
 			
-			final SystemConfiguration sc = this.scRepo.findSystemConfigurationById();
-			final String[] parts = sc.getStrongSpam().split(";");
-			final String[] parts2 = sc.getWeakSpam().split(";");
-			final List<String> strongSpam = new LinkedList<>();
-			final List<String> weakSpam = new LinkedList<>();
-			Collections.addAll(strongSpam, parts);
-			Collections.addAll(weakSpam, parts2);
-
-			if (entity.getBody() != null && !entity.getBody().equals("")) {
-				final boolean spam1 = SpamDetector.validateNoSpam(entity.getBody(), weakSpam, sc.getWeakThreshold()) && SpamDetector.validateNoSpam(entity.getBody(), strongSpam, sc.getStrongThreshold());
-				errors.state(request, spam1, "body", "administrator.announcement.form.label.spam", "spam");
-			}
-			
-			if (entity.getTitle() != null && !entity.getTitle().equals("")) {
-				final boolean spam1 = SpamDetector.validateNoSpam(entity.getTitle(), weakSpam, sc.getWeakThreshold()) && SpamDetector.validateNoSpam(entity.getTitle(), strongSpam, sc.getStrongThreshold());
-				errors.state(request, spam1, "title", "administrator.announcement.form.label.spam", "spam");
-			}
-			
-			if (entity.getEmail() != null && !entity.getEmail().equals("")) {
-				final boolean spam1 = SpamDetector.validateNoSpam(entity.getEmail(), weakSpam, sc.getWeakThreshold()) && SpamDetector.validateNoSpam(entity.getEmail(), strongSpam, sc.getStrongThreshold());
-				errors.state(request, spam1, "email", "administrator.announcement.form.label.spam", "spam");
-			}
-			
-			if (entity.getMoreInfo() != null && !entity.getMoreInfo().equals("")) {
-				final boolean spam2 = SpamDetector.validateNoSpam(entity.getMoreInfo(), weakSpam, sc.getWeakThreshold()) && SpamDetector.validateNoSpam(entity.getMoreInfo(), strongSpam, sc.getStrongThreshold());
-
-				errors.state(request, spam2, "moreInfo", "administrator.announcement.form.label.spam", "spam");
-			}
+			this.spamFilter.validate(request, entity, errors, "administrator.announcement.form.label.spam", "body", "title", "email", "moreInfo");
 
 			boolean confirmation;
 
@@ -8,15 +8,19 @@ import java.util.Date;
 
 import org.springframework.beans.factory.annotation.Autowired;
 import org.springframework.stereotype.Service;
+import org.springframework.transaction.annotation.Transactional;
 
+import acme.components.KeysetPager;
 import acme.entities.Announcement;
 import acme.framework.components.models.Model;
 import acme.framework.controllers.Request;
+import acme.framework.helpers.CollectionHelper;
 import acme.framework.roles.Administrator;
 
 import acme.framework.services.AbstractListService;
 
 @Service
+@Transactional(readOnly = true)
 public class AdministratorAnnouncementListService implements AbstractListService<Administrator, Announcement> {
 
 	// Internal state ---------------------------------------------------------
@@ -24,6 +28,9 @@ public class AdministratorAnnouncementListService implements AbstractListService
 	@Autowired
 	protected AdministratorAnnouncementRepository repository;
 
+	@Autowired
+	protected KeysetPager pager;
+
 	// AbstractListService<Administrator, Announcement> interface --------------
 
 
@@ -46,7 +53,7 @@ public class AdministratorAnnouncementListService implements AbstractListService
 		calendar.add(Calendar.MONTH, -1);
 		deadline = calendar.getTime();
 
-		result = this.repository.findRecentAnnouncements(deadline);
+		result = this.repository.findRecentAnnouncements(deadline, this.pager.getCursor(request), this.pager.getPage(request));
 
 		return result;
 	}
@@ -60,5 +67,14 @@ public class AdministratorAnnouncementListService implements AbstractListService
 		request.unbind(entity, model, "title", "body", "creationMoment");
 	}
 
+	@Override
+	public void unbind(final Request<Announcement> request, final Collection<Announcement> entities, final Model model) {
+		assert request != null;
+		assert !CollectionHelper.someNull(entities);
+		assert model != null;
+
+		this.pager.unbindNextCursor(request, entities, model);
+	}
+
 }
 
@@ -3,6 +3,7 @@ package acme.features.administrator.announcement;
 import java.util.Collection;
 import java.util.Date;
 
+import org.springframework.data.domain.Pageable;
 import org.springframework.data.jpa.repository.Query;
 import org.springframework.stereotype.Repository;
 
@@ -18,6 +19,6 @@ public interface AdministratorAnnouncementRepository extends AbstractRepository{
 	@Query("select a from Announcement a")
 	Collection<Announcement> findAllAnnouncements();
 
-	@Query("select a from Announcement a where a.creationMoment > :deadline")
-	Collection<Announcement> findRecentAnnouncements(Date deadline);
+	@Query("select a from Announcement a where a.creationMoment > :deadline and (:cursor = 0 or a.creationMoment < (select k.creationMoment from Announcement k where k.id = :cursor) or (a.creationMoment = (select k.creationMoment from Announcement k where k.id = :cursor) and a.id < :cursor)) order by a.creationMoment desc, a.id desc")
+	Collection<Announcement> findRecentAnnouncements(Date deadline, int cursor, Pageable page);
 }
@@ -8,6 +8,7 @@ import java.util.Date;
 
 import org.springframework.beans.factory.annotation.Autowired;
 import org.springframework.stereotype.Service;
+import org.springframework.transaction.annotation.Transactional;
 
 import acme.entities.Announcement;
 import acme.framework.components.models.Model;
@@ -17,6 +18,7 @@ import acme.framework.roles.Administrator;
 import acme.framework.services.AbstractShowService;
 
 @Service
+@Transactional(readOnly = true)
 public class AdministratorAnnouncementShowService implements AbstractShowService<Administrator, Announcement> {
 
 	// Internal state ---------------------------------------------------------
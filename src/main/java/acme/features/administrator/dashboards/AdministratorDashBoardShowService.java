@@ -3,13 +3,19 @@ package acme.features.administrator.dashboards;
 
 import java.util.ArrayList;
 import java.util.HashMap;
+import java.util.LinkedHashMap;
 import java.util.List;
 import java.util.Map;
 
 import org.springframework.beans.factory.annotation.Autowired;
 import org.springframework.data.util.Pair;
 import org.springframework.stereotype.Service;
+import org.springframework.transaction.annotation.Transactional;
 
+import acme.components.DashboardStatisticsService;
+import acme.components.RunningStatistics;
+import acme.entities.ItemType;
+import acme.entities.PatronageStatus;
 import acme.forms.AdministratorDashboard;
 import acme.framework.components.models.Model;
 import acme.framework.controllers.Request;
@@ -18,12 +24,19 @@ import acme.framework.roles.Administrator;
 import acme.framework.services.AbstractShowService;
 
 @Service
+@Transactional(readOnly = true)
 public class AdministratorDashBoardShowService implements AbstractShowService<Administrator, AdministratorDashboard> {
 
+	// Constants --------------------------------------------------------------
+
+	private static final String[]	STATS	= {
+		"max", "min", "average", "deviation"
+	};
+
 	// Internal state ---------------------------------------------------------
 
 	@Autowired
-	protected AdministratorDashboardRepository repository;
+	protected DashboardStatisticsService statisticsService;
 
 	// AbstractShowService<Administrator, AdministratorDashboard> interface ---------------------------
 
@@ -39,90 +52,69 @@ public class AdministratorDashBoardShowService implements AbstractShowService<Ad
 	public AdministratorDashboard findOne(final Request<AdministratorDashboard> request) {
 		assert request != null;
 
-		final int totalNumOfComponents = this.repository.totalNumOfComponents();
-		final int totalNumOfTools = this.repository.totalNumOfTools();
-		final int numberOfAcceptedPatronages = this.repository.numberOfAcceptedPatronages();
-		final int numberOfDeniedPatronages = this.repository.numberOfDeniedPatronages();
-		final int numberOfProposedPatronages = this.repository.numberOfProposedPatronages();
-		final List<Object[]> minPriceOfComponents = this.repository.minPriceOfComponents();
-		final List<Object[]> maxPriceOfComponents = this.repository.maxPriceOfComponents();
-		final List<Object[]> averagePriceOfComponents = this.repository.averagePriceOfComponents();
-		final List<Object[]> deviationPriceOfComponents = this.repository.deviationPriceOfComponents();
-		final List<Object[]> minPriceOfTools = this.repository.minPriceOfTools();
-		final List<Object[]> maxPriceOfTools = this.repository.maxPriceOfTools();
-		final List<Object[]> averagePriceOfTools = this.repository.averagePriceOfTools();
-		final List<Object[]> deviationPriceOfTools = this.repository.deviationPriceOfTools();
-		final Double minPriceOfAcceptedPatronages = this.repository.minBudgetAcceptedPatronages();
-		final Double maxPriceOfAcceptedPatronages = this.repository.maxBudgetAcceptedPatronages();
-		final Double averagePriceOfAcceptedPatronages = this.repository.averageBudgetAcceptedPatronages();
-		final Double deviationPriceOfAcceptedPatronages = this.repository.deviationBudgetAcceptedPatronages();
-		final Double minPriceOfDeniedPatronages = this.repository.minBudgetDeniedPatronages();
-		final Double maxPriceOfDeniedPatronages = this.repository.maxBudgetDeniedPatronages();
-		final Double averagePriceOfDeniedPatronages = this.repository.averageBudgetDeniedPatronages();
-		final Double deviationPriceOfDeniedPatronages = this.repository.deviationBudgetDeniedPatronages();
-		final Double minPriceOfProposedPatronages = this.repository.minBudgetProposedPatronages();
-		final Double maxPriceOfProposedPatronages = this.repository.maxBudgetProposedPatronages();
-		final Double averagePriceOfProposedPatronages = this.repository.averageBudgetProposedPatronages();
-		final Double deviationPriceOfProposedPatronages = this.repository.deviationBudgetProposedPatronages();
-		
-		//Chimpum
-		final Double ratioOfChimpums = ((double)this.repository.getArtefactWithChimpum()/this.repository.getTotalArtefacts());
-		
-		final Map<String, List<Money>> budgetOfChimpumsStats = new HashMap<>();
-		
-		final List<Object[]> maxBudgetOfChimpums = this.repository.maxBudgetOfChimpums();
-		final List<Object[]> minBudgetOfChimpums = this.repository.minBudgetOfChimpums();
-		final List<Object[]> averageBudgetOfChimpums = this.repository.averageBudgetOfChimpums();
-		final List<Object[]> deviationBudgetOfChimpums = this.repository.deviationBudgetOfChimpums();
-		
-		budgetOfChimpumsStats.put("max", this.objectListToMoneyList(maxBudgetOfChimpums));
-		budgetOfChimpumsStats.put("min", this.objectListToMoneyList(minBudgetOfChimpums));
-		budgetOfChimpumsStats.put("average", this.objectListToMoneyList(averageBudgetOfChimpums));
-		budgetOfChimpumsStats.put("deviation", this.objectListToMoneyList(deviationBudgetOfChimpums));
-
-		final Map<String, List<Pair<Double,String>>> priceOfComponentsStats = new HashMap<>();
-		
-		priceOfComponentsStats.put("max", this.objectListToPairList(maxPriceOfComponents));
-		priceOfComponentsStats.put("min", this.objectListToPairList(minPriceOfComponents));
-		priceOfComponentsStats.put("average", this.objectListToPairList(averagePriceOfComponents));
-		priceOfComponentsStats.put("deviation", this.objectListToPairList(deviationPriceOfComponents));
-
-		final Map<String, List<Money>> priceOfToolsStats = new HashMap<>();
-
-		priceOfToolsStats.put("max", this.objectListToMoneyList(maxPriceOfTools));
-		priceOfToolsStats.put("min", this.objectListToMoneyList(minPriceOfTools));
-		priceOfToolsStats.put("average", this.objectListToMoneyList(averagePriceOfTools));
-		priceOfToolsStats.put("deviation", this.objectListToMoneyList(deviationPriceOfTools));
-
-		final Map<String, Integer> numberOfPatronages = new HashMap<>();
-		numberOfPatronages.put("accepted", numberOfAcceptedPatronages);
-		numberOfPatronages.put("denied", numberOfDeniedPatronages);
-		numberOfPatronages.put("proposed", numberOfProposedPatronages);
-
-		final Map<String, Double> patronageStats = new HashMap<>();
-		patronageStats.put("maxAccepted", maxPriceOfAcceptedPatronages);
-		patronageStats.put("minAccepted", minPriceOfAcceptedPatronages);
-		patronageStats.put("averageAccepted", averagePriceOfAcceptedPatronages);
-		patronageStats.put("deviationAccepted", deviationPriceOfAcceptedPatronages);
-		patronageStats.put("maxDenied", maxPriceOfDeniedPatronages);
-		patronageStats.put("minDenied", minPriceOfDeniedPatronages);
-		patronageStats.put("averageDenied", averagePriceOfDeniedPatronages);
-		patronageStats.put("deviationDenied", deviationPriceOfDeniedPatronages);
-		patronageStats.put("maxProposed", maxPriceOfProposedPatronages);
-		patronageStats.put("minProposed", minPriceOfProposedPatronages);
-		patronageStats.put("averageProposed", averagePriceOfProposedPatronages);
-		patronageStats.put("deviationProposed", deviationPriceOfProposedPatronages);
-
-		final AdministratorDashboard result = new AdministratorDashboard();
+		final AdministratorDashboard result;
+		final Map<String, List<Pair<Double, String>>> priceOfComponentsStats;
+		final Map<String, RunningStatistics> priceOfTools;
+		final Map<String, Integer> numberOfPatronages;
+		final Map<String, Double> patronageStats;
+		final Map<String, RunningStatistics> budgetOfChimpums;
+		RunningStatistics statistics;
+		String label, status;
+		int totalNumOfComponents, totalNumOfTools, totalNumOfItems, totalNumOfChimpums;
+
+		// Items: components are shown per technology and currency, whereas
+		// tools are merged per currency
+		totalNumOfComponents = 0;
+		priceOfComponentsStats = AdministratorDashBoardShowService.newStatsMap();
+		for (final Map.Entry<Pair<String, String>, RunningStatistics> entry : this.statisticsService.getItemStatistics(ItemType.COMPONENT).entrySet()) {
+			statistics = entry.getValue();
+			totalNumOfComponents += statistics.getCount();
+			label = entry.getKey().getFirst() + ", " + entry.getKey().getSecond();
+			priceOfComponentsStats.get("max").add(Pair.of(statistics.getMaximum(), label));
+			priceOfComponentsStats.get("min").add(Pair.of(statistics.getMinimum(), label));
+			priceOfComponentsStats.get("average").add(Pair.of(statistics.getAverage(), label));
+			priceOfComponentsStats.get("deviation").add(Pair.of(statistics.getDeviation(), label));
+		}
+
+		totalNumOfTools = 0;
+		priceOfTools = new LinkedHashMap<>();
+		for (final Map.Entry<Pair<String, String>, RunningStatistics> entry : this.statisticsService.getItemStatistics(ItemType.TOOL).entrySet()) {
+			totalNumOfTools += entry.getValue().getCount();
+			priceOfTools.computeIfAbsent(entry.getKey().getSecond(), currency -> new RunningStatistics()).merge(entry.getValue());
+		}
+		totalNumOfItems = totalNumOfComponents + totalNumOfTools;
+
+		// Patronages: the statuses with no patronages have no statistics
+		numberOfPatronages = new HashMap<>();
+		patronageStats = new HashMap<>();
+		for (final PatronageStatus value : PatronageStatus.values())
+			numberOfPatronages.put(value.name().toLowerCase(), 0);
+		for (final Map.Entry<PatronageStatus, RunningStatistics> entry : this.statisticsService.getPatronageStatistics().entrySet()) {
+			statistics = entry.getValue();
+			status = entry.getKey().name();
+			numberOfPatronages.put(status.toLowerCase(), (int) statistics.getCount());
+			status = status.charAt(0) + status.substring(1).toLowerCase();
+			patronageStats.put("max" + status, statistics.getMaximum());
+			patronageStats.put("min" + status, statistics.getMinimum());
+			patronageStats.put("average" + status, statistics.getAverage());
+			patronageStats.put("deviation" + status, statistics.getDeviation());
+		}
 
+		// Chimpums: per currency of their budgets
+		budgetOfChimpums = this.statisticsService.getChimpumStatistics();
+		totalNumOfChimpums = 0;
+		for (final RunningStatistics value : budgetOfChimpums.values())
+			totalNumOfChimpums += value.getCount();
+
+		result = new AdministratorDashboard();
 		result.setTotalNumComponents(totalNumOfComponents);
 		result.setTotalNumTools(totalNumOfTools);
 		result.setNumberOfPatronages(numberOfPatronages);
 		result.setPriceOfComponentsStats(priceOfComponentsStats);
-		result.setPriceOfToolsStats(priceOfToolsStats);
+		result.setPriceOfToolsStats(AdministratorDashBoardShowService.toMoneyStats(priceOfTools));
 		result.setPatronagesStats(patronageStats);
-		result.setRatioOfChimpums(ratioOfChimpums);
-		result.setChimpumStats(budgetOfChimpumsStats);
+		result.setRatioOfChimpums((double) totalNumOfChimpums / totalNumOfItems);
+		result.setChimpumStats(AdministratorDashBoardShowService.toMoneyStats(budgetOfChimpums));
 
 		return result;
 	}
@@ -163,28 +155,47 @@ public class AdministratorDashBoardShowService implements AbstractShowService<Ad
 		model.setAttribute("deviationBudgetOfChimpums", entity.getChimpumStats().get("deviation"));
 	}
 
-	private List<Money> objectListToMoneyList(final List<Object[]> list) {
-		final List<Money> res = new ArrayList<Money>();
-		for (final Object[] object : list) {
-			final Money money = new Money();
-			money.setAmount((Double) object[0]);
-			money.setCurrency((String) object[1]);
-			res.add(money);
-		}
-		return res;
+	// Ancillary methods ------------------------------------------------------
+
+
+	private static Map<String, List<Pair<Double, String>>> newStatsMap() {
+		final Map<String, List<Pair<Double, String>>> result = new HashMap<>();
+
+		for (final String key : AdministratorDashBoardShowService.STATS)
+			result.put(key, new ArrayList<>());
+
+		return result;
 	}
-	
-	private List<Pair<Double,String>> objectListToPairList(final List<Object[]> list) {
-		final List<Pair<Double,String>> res = new ArrayList<Pair<Double,String>>();
-		for (final Object[] object : list) {
-			String string;
-			final Double value = (Double) object[0];
-			string = ((String) object[1]);
-			string += ", " + ((String) object[2]);
-			
-			res.add(Pair.of(value, string));
+
+	private static Map<String, List<Money>> toMoneyStats(final Map<String, RunningStatistics> statistics) {
+		final Map<String, List<Money>> result = new HashMap<>();
+		final List<Money> max, min, average, deviation;
+
+		max = new ArrayList<>();
+		min = new ArrayList<>();
+		average = new ArrayList<>();
+		deviation = new ArrayList<>();
+		for (final Map.Entry<String, RunningStatistics> entry : statistics.entrySet()) {
+			max.add(AdministratorDashBoardShowService.toMoney(entry.getValue().getMaximum(), entry.getKey()));
+			min.add(AdministratorDashBoardShowService.toMoney(entry.getValue().getMinimum(), entry.getKey()));
+			average.add(AdministratorDashBoardShowService.toMoney(entry.getValue().getAverage(), entry.getKey()));
+			deviation.add(AdministratorDashBoardShowService.toMoney(entry.getValue().getDeviation(), entry.getKey()));
 		}
-		return res;
+		result.put("max", max);
+		result.put("min", min);
+		result.put("average", average);
+		result.put("deviation", deviation);
+
+		return result;
+	}
+
+	private static Money toMoney(final Double amount, final String currency) {
+		final Money result = new Money();
+
+		result.setAmount(amount);
+		result.setCurrency(currency);
+
+		return result;
 	}
 
 }
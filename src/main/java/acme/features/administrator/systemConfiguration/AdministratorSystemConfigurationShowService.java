@@ -2,6 +2,7 @@ package acme.features.administrator.systemConfiguration;
 
 import org.springframework.beans.factory.annotation.Autowired;
 import org.springframework.stereotype.Service;
+import org.springframework.transaction.annotation.Transactional;
 
 import acme.entities.SystemConfiguration;
 import acme.framework.components.models.Model;
@@ -10,6 +11,7 @@ import acme.framework.roles.Administrator;
 import acme.framework.services.AbstractShowService;
 
 @Service
+@Transactional(readOnly = true)
 public class AdministratorSystemConfigurationShowService implements AbstractShowService<Administrator,SystemConfiguration>{
 	
 	
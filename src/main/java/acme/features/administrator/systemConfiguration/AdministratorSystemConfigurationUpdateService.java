@@ -6,6 +6,9 @@ import java.util.List;
 import org.springframework.beans.factory.annotation.Autowired;
 import org.springframework.stereotype.Service;
 
+import acme.components.CacheInvalidationChannel;
+import acme.components.SpamRescanJob;
+import acme.components.SystemConfigurationCache;
 import acme.entities.SystemConfiguration;
 import acme.framework.components.models.Model;
 import acme.framework.controllers.Errors;
@@ -24,6 +27,15 @@ public class AdministratorSystemConfigurationUpdateService implements AbstractUp
 	@Autowired
 	protected AdministratorSystemConfigurationRepository repository;
 
+	@Autowired
+	protected SpamRescanJob rescanJob;
+
+	@Autowired
+	protected SystemConfigurationCache configurationCache;
+
+	@Autowired
+	protected CacheInvalidationChannel invalidationChannel;
+
 	// AbstractUpdateService<Administrator, SystemConfiguration> interface ---------------
 
 
@@ -83,6 +95,9 @@ public class AdministratorSystemConfigurationUpdateService implements AbstractUp
 		assert entity != null;
 
 		this.repository.save(entity);
+		this.configurationCache.update(entity);
+		// Both take effect once the transaction commits, in this order
+		this.rescanJob.requestRescan();
 	}
 
 	@Override
@@ -92,6 +107,7 @@ public class AdministratorSystemConfigurationUpdateService implements AbstractUp
 
 		if (request.isMethod(HttpMethod.POST)) {
 			PrincipalHelper.handleUpdate();
+			this.invalidationChannel.publish(CacheInvalidationChannel.SYSTEM_CONFIGURATION);
 		}
 	}
 
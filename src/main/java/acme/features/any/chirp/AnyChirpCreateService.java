@@ -1,18 +1,13 @@
 
 package acme.features.any.chirp;
 
-import java.util.Collections;
 import java.util.Date;
-import java.util.LinkedList;
-import java.util.List;
 
 import org.springframework.beans.factory.annotation.Autowired;
 import org.springframework.stereotype.Service;
 
+import acme.components.SpamFilter;
 import acme.entities.Chirp;
-import acme.entities.SystemConfiguration;
-import acme.features.administrator.systemConfiguration.AdministratorSystemConfigurationRepository;
-import acme.features.spam.SpamDetector;
 import acme.framework.components.models.Model;
 import acme.framework.controllers.Errors;
 import acme.framework.controllers.Request;
@@ -25,10 +20,10 @@ public class AnyChirpCreateService implements AbstractCreateService<Any, Chirp>
 	// Internal state ---------------------------------------------------------
 
 	@Autowired
-	protected AnyChirpRepository							repository;
+	protected AnyChirpRepository	repository;
 
 	@Autowired
-	protected AdministratorSystemConfigurationRepository	scRepo;
+	protected SpamFilter			spamFilter;
 
 	// AbstractCreateService<Any, Chirp> interface -------------------------
 
@@ -83,34 +78,7 @@ public class AnyChirpCreateService implements AbstractCreateService<Any, Chirp>
 		assert entity != null;
 		assert errors != null;
 
-		final SystemConfiguration sc = this.scRepo.findSystemConfigurationById();
-		final String[] parts = sc.getStrongSpam().split(";");
-		final String[] parts2 = sc.getWeakSpam().split(";");
-		final List<String> strongSpam = new LinkedList<>();
-		final List<String> weakSpam = new LinkedList<>();
-		Collections.addAll(strongSpam, parts);
-		Collections.addAll(weakSpam, parts2);
-
-		if (entity.getAuthor() != null && !entity.getAuthor().equals("")) {
-			final boolean spam1 = SpamDetector.validateNoSpam(entity.getAuthor(), weakSpam, sc.getWeakThreshold()) && SpamDetector.validateNoSpam(entity.getAuthor(), strongSpam, sc.getStrongThreshold());
-			errors.state(request, spam1, "author", "any.chirp.form.label.spam", "spam");
-		}
-
-		if (entity.getBody() != null && !entity.getBody().equals("")) {
-			final boolean spam1 = SpamDetector.validateNoSpam(entity.getBody(), weakSpam, sc.getWeakThreshold()) && SpamDetector.validateNoSpam(entity.getBody(), strongSpam, sc.getStrongThreshold());
-			errors.state(request, spam1, "body", "any.chirp.form.label.spam", "spam");
-		}
-
-		if (entity.getTitle() != null && !entity.getTitle().equals("")) {
-			final boolean spam1 = SpamDetector.validateNoSpam(entity.getTitle(), weakSpam, sc.getWeakThreshold()) && SpamDetector.validateNoSpam(entity.getTitle(), strongSpam, sc.getStrongThreshold());
-			errors.state(request, spam1, "title", "any.chirp.form.label.spam", "spam");
-		}
-		
-		if (!entity.getEmail().equals("") && entity.getEmail() != null) {
-			final boolean spam2 = SpamDetector.validateNoSpam(entity.getEmail(), weakSpam, sc.getWeakThreshold()) && SpamDetector.validateNoSpam(entity.getEmail(), strongSpam, sc.getStrongThreshold());
-
-			errors.state(request, spam2, "email", "any.chirp.form.label.spam", "spam");
-		}
+		this.spamFilter.validate(request, entity, errors, "any.chirp.form.label.spam", "author", "body", "title", "email");
 
 		boolean confirmation;
 
@@ -1,28 +1,32 @@
 package acme.features.any.chirp;
 
 
-import java.sql.Timestamp;
-import java.time.Duration;
-import java.time.LocalDateTime;
-import java.util.ArrayList;
+import java.util.Calendar;
 import java.util.Collection;
-import java.util.List;
+import java.util.Date;
 
 import org.springframework.beans.factory.annotation.Autowired;
 import org.springframework.stereotype.Service;
+import org.springframework.transaction.annotation.Transactional;
 
+import acme.components.KeysetPager;
 import acme.entities.Chirp;
 import acme.framework.components.models.Model;
 import acme.framework.controllers.Request;
+import acme.framework.helpers.CollectionHelper;
 import acme.framework.roles.Any;
 import acme.framework.services.AbstractListService;
 
 @Service
+@Transactional(readOnly = true)
 public class AnyChirpListService implements AbstractListService<Any, Chirp> {
 
 	@Autowired
 	protected AnyChirpRepository repository;
 
+	@Autowired
+	protected KeysetPager pager;
+
 	@Override
 	public boolean authorise(final Request<Chirp> request) {
 		assert request != null;
@@ -34,22 +38,28 @@ public class AnyChirpListService implements AbstractListService<Any, Chirp> {
 	public Collection<Chirp> findMany(final Request<Chirp> request) {
 		assert request != null;
 
-		List<Chirp> result;
-		final List<Chirp> result2 = new ArrayList<>();
-
-		result = this.repository.findManyChirps();
-		
-		for(int i = 0; i<result.size();i++) {
-			final Timestamp d = (Timestamp) result.get(i).getCreationMoment();
-			final Duration duration = Duration.between(d.toLocalDateTime(), LocalDateTime.now());
-			final long diff = duration.toDays();
-			if(diff <= 30) {
-				result2.add(result.get(i));
-			}
-			
-		}
-
-		return result2;
+		Collection<Chirp> result;
+		Calendar calendar;
+		Date deadline;
+
+		calendar = Calendar.getInstance();
+		calendar.add(Calendar.DAY_OF_MONTH, -30);
+		deadline = calendar.getTime();
+
+		// Chirps are listed newest first, one page at a time, seeking past the
+		// last chirp of the previous page
+		result = this.repository.findManyChirps(deadline, this.pager.getCursor(request), this.pager.getPage(request));
+
+		return result;
+	}
+
+	@Override
+	public void unbind(final Request<Chirp> request, final Collection<Chirp> entities, final Model model) {
+		assert request != null;
+		assert !CollectionHelper.someNull(entities);
+		assert model != null;
+
+		this.pager.unbindNextCursor(request, entities, model);
 	}
 
 	@Override
@@ -1,7 +1,9 @@
 package acme.features.any.chirp;
 
+import java.util.Date;
 import java.util.List;
 
+import org.springframework.data.domain.Pageable;
 import org.springframework.data.jpa.repository.Query;
 import org.springframework.stereotype.Repository;
 
@@ -14,7 +16,7 @@ public interface AnyChirpRepository extends AbstractRepository{
 	@Query("SELECT c FROM Chirp c WHERE c.id = ?1")
  	Chirp findOneChirpById(int id);
 
- 	@Query("SELECT c FROM Chirp c")
- 	List<Chirp> findManyChirps();
+ 	@Query("SELECT c FROM Chirp c WHERE c.creationMoment >= :deadline AND (:cursor = 0 OR c.creationMoment < (SELECT k.creationMoment FROM Chirp k WHERE k.id = :cursor) OR (c.creationMoment = (SELECT k.creationMoment FROM Chirp k WHERE k.id = :cursor) AND c.id < :cursor)) ORDER BY c.creationMoment DESC, c.id DESC")
+ 	List<Chirp> findManyChirps(Date deadline, int cursor, Pageable page);
  	
 }
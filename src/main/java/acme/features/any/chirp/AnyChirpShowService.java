@@ -3,6 +3,7 @@ package acme.features.any.chirp;
 
 import org.springframework.beans.factory.annotation.Autowired;
 import org.springframework.stereotype.Service;
+import org.springframework.transaction.annotation.Transactional;
 
 import acme.entities.Chirp;
 import acme.framework.components.models.Model;
@@ -11,6 +12,7 @@ import acme.framework.roles.Any;
 import acme.framework.services.AbstractShowService;
 
 @Service
+@Transactional(readOnly = true)
 public class AnyChirpShowService implements AbstractShowService<Any,Chirp> {
 
 	@Autowired
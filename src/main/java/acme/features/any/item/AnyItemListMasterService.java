@@ -5,6 +5,7 @@ import java.util.Collection;
 
 import org.springframework.beans.factory.annotation.Autowired;
 import org.springframework.stereotype.Service;
+import org.springframework.transaction.annotation.Transactional;
 
 import acme.entities.Item;
 import acme.entities.ItemType;
@@ -14,6 +15,7 @@ import acme.framework.roles.Any;
 import acme.framework.services.AbstractListService;
 
 @Service
+@Transactional(readOnly = true)
 public class AnyItemListMasterService implements AbstractListService<Any, Item> {
 
 	@Autowired
@@ -1,23 +1,36 @@
 package acme.features.any.item;
 
+import java.util.ArrayList;
 import java.util.Collection;
+import java.util.List;
 
 import org.springframework.beans.factory.annotation.Autowired;
 import org.springframework.stereotype.Service;
+import org.springframework.transaction.annotation.Transactional;
 
+import acme.components.CatalogueIndex;
+import acme.components.KeysetPager;
 import acme.entities.Item;
 import acme.entities.ItemType;
 import acme.framework.components.models.Model;
 import acme.framework.controllers.Request;
+import acme.framework.helpers.CollectionHelper;
 import acme.framework.roles.Any;
 import acme.framework.services.AbstractListService;
 
 @Service
+@Transactional(readOnly = true)
 public class AnyItemListService implements AbstractListService<Any, Item> {
 	
 	@Autowired
 	protected AnyItemRepository repository;
 	
+	@Autowired
+	protected KeysetPager pager;
+	
+	@Autowired
+	protected CatalogueIndex catalogueIndex;
+	
 	@Override
 	public boolean authorise(final Request<Item> request) {
 		assert request != null;
@@ -31,15 +44,18 @@ public class AnyItemListService implements AbstractListService<Any, Item> {
 
 		Collection<Item> result;
 		ItemType type;
+		List<Integer> ids;
 
 		type =ItemType.valueOf((String)request.getModel().getAttribute("type"));
 
-		result = this.repository.findManyItemsByAvailability(type);
-		
 		if(request.getModel().hasAttribute("masterId")) {
 			final int masterId = request.getModel().getInteger("masterId");
 			result = this.repository.findManyItemsByMasterId(type, masterId);
-		}
+		} else if (this.catalogueIndex.hasQuery(request)) {
+			ids = this.catalogueIndex.searchItems(type, this.catalogueIndex.getQuery(request), this.pager.getCursor(request), this.pager.getPage(request).getPageSize());
+			result = ids.isEmpty() ? new ArrayList<>() : this.repository.findManyItemsByIds(ids);
+		} else
+			result = this.repository.findManyItemsByAvailability(type, this.pager.getCursor(request), this.pager.getPage(request));
 
 		return result;
 	}
@@ -52,4 +68,17 @@ public class AnyItemListService implements AbstractListService<Any, Item> {
 
 		request.unbind(entity, model,"name","code", "technology", "description");
 	}
+	
+	@Override
+	public void unbind(final Request<Item> request, final Collection<Item> entities, final Model model) {
+		assert request != null;
+		assert !CollectionHelper.someNull(entities);
+		assert model != null;
+
+		model.setAttribute("type", request.getModel().getAttribute("type"));
+		if(!request.getModel().hasAttribute("masterId")) {
+			this.catalogueIndex.unbindQuery(request, model);
+			this.pager.unbindNextCursor(request, entities, model);
+		}
+	}
 }
@@ -12,27 +12,45 @@
 
 package acme.features.any.toolkit;
 
+import java.util.ArrayList;
 import java.util.Collection;
+import java.util.HashMap;
+import java.util.List;
+import java.util.Map;
 
 import org.springframework.beans.factory.annotation.Autowired;
 import org.springframework.stereotype.Service;
+import org.springframework.transaction.annotation.Transactional;
 
-import acme.entities.Item;
-import acme.entities.ItemQuantity;
+import acme.components.CatalogueIndex;
+import acme.components.KeysetPager;
 import acme.entities.Toolkit;
 import acme.framework.components.models.Model;
 import acme.framework.controllers.Request;
+import acme.framework.helpers.CollectionHelper;
 import acme.framework.roles.Any;
 import acme.framework.services.AbstractListService;
 
 @Service
+@Transactional(readOnly = true)
 public class AnyToolkitListAllService implements AbstractListService<Any, Toolkit> {
 
+	// Constants --------------------------------------------------------------
+
+	// Request attribute with the names of the items of the listed toolkits, by toolkit identifier
+	protected static final String	ITEM_NAMES	= "itemNames";
+
 	// Internal state ---------------------------------------------------------
 
 	@Autowired
 	protected AnyToolkitRepository repository;
 
+	@Autowired
+	protected KeysetPager pager;
+
+	@Autowired
+	protected CatalogueIndex catalogueIndex;
+
 	// AbstractListService<Any, Toolkit>  interface -------------------------
 
 
@@ -48,8 +66,14 @@ public class AnyToolkitListAllService implements AbstractListService<Any, Toolki
 		assert request != null;
 
 		Collection<Toolkit> result;
+		List<Integer> ids;
 
-		result = this.repository.findManyToolkitsByAvailability();
+		if (this.catalogueIndex.hasQuery(request)) {
+			ids = this.catalogueIndex.searchToolkits(this.catalogueIndex.getQuery(request), this.pager.getCursor(request), this.pager.getPage(request).getPageSize());
+			result = ids.isEmpty() ? new ArrayList<>() : this.repository.findManyToolkitsByIds(ids);
+		} else
+			result = this.repository.findManyToolkitsByAvailability(this.pager.getCursor(request), this.pager.getPage(request));
+		request.getModel().setAttribute(AnyToolkitListAllService.ITEM_NAMES, this.findItemNames(result));
 
 		return result;
 	}
@@ -59,18 +83,50 @@ public class AnyToolkitListAllService implements AbstractListService<Any, Toolki
 		assert request != null;
 		assert entity != null;
 		assert model != null;
-		final StringBuilder payload=new StringBuilder();
-		final Collection<ItemQuantity> quantities = this.repository.findItemQuantitiesOfToolkit(entity.getId());
+		final Map<Integer, String> itemNames;
+
 		request.unbind(entity, model, "code", "title", "description");
-	    for(final ItemQuantity iq: quantities) {
-	    	final Item i= iq.getItem();
-	    	payload.append(String.format(
-                "%s;",
-                i.getName()));
-
-	    }
-	    model.setAttribute("payload", payload.toString());
-	
+		itemNames = this.getItemNames(request);
+		model.setAttribute("payload", itemNames.getOrDefault(entity.getId(), ""));
+	}
+
+	@Override
+	public void unbind(final Request<Toolkit> request, final Collection<Toolkit> entities, final Model model) {
+		assert request != null;
+		assert !CollectionHelper.someNull(entities);
+		assert model != null;
+
+		this.catalogueIndex.unbindQuery(request, model);
+		this.pager.unbindNextCursor(request, entities, model);
+	}
+
+	// Ancillary methods ------------------------------------------------------
+
+	protected Map<Integer, String> findItemNames(final Collection<Toolkit> toolkits) {
+		final Map<Integer, StringBuilder> payloads = new HashMap<>();
+		final Map<Integer, String> result = new HashMap<>();
+		final List<Integer> ids = new ArrayList<>();
+
+		if (toolkits.isEmpty())
+			return result;
+
+		// The item names of every listed toolkit are read in a single query
+		for (final Toolkit t : toolkits)
+			ids.add(t.getId());
+		for (final Object[] row : this.repository.findItemNamesOfToolkits(ids))
+			payloads.computeIfAbsent((Integer) row[0], id -> new StringBuilder()).append(String.format("%s;", row[1]));
+
+		for (final Map.Entry<Integer, StringBuilder> entry : payloads.entrySet())
+			result.put(entry.getKey(), entry.getValue().toString());
+
+		return result;
+	}
+
+	@SuppressWarnings("unchecked")
+	protected Map<Integer, String> getItemNames(final Request<Toolkit> request) {
+		final Object result = request.getModel().getAttribute(AnyToolkitListAllService.ITEM_NAMES);
+
+		return result instanceof Map ? (Map<Integer, String>) result : new HashMap<>();
 	}
 
 }
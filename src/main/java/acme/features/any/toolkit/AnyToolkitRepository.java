@@ -13,13 +13,12 @@
 package acme.features.any.toolkit;
 
 import java.util.Collection;
-import java.util.Optional;
 
+import org.springframework.data.domain.Pageable;
 import org.springframework.data.jpa.repository.Query;
 import org.springframework.stereotype.Repository;
 
 import acme.entities.ItemQuantity;
-import acme.entities.MoneyExchangeCache;
 import acme.entities.Toolkit;
 import acme.framework.repositories.AbstractRepository;
 
@@ -29,8 +28,11 @@ public interface AnyToolkitRepository extends AbstractRepository {
 	@Query("select t from Toolkit t where t.id = :id")
 	Toolkit findOneToolkitById(int id);
 
-	@Query("select t from Toolkit t where t.draftMode = false")
-	Collection<Toolkit> findManyToolkitsByAvailability();
+	@Query("select t from Toolkit t where t.draftMode = false and t.id > :cursor order by t.id")
+	Collection<Toolkit> findManyToolkitsByAvailability(int cursor, Pageable page);
+
+	@Query("select t from Toolkit t where t.draftMode = false and t.id in :ids order by t.id")
+	Collection<Toolkit> findManyToolkitsByIds(Collection<Integer> ids);
 	
 	@Query("select iq from ItemQuantity iq where iq.toolkit.id = :masterId")
     Collection<ItemQuantity> findItemQuantitiesOfToolkit(int masterId);
@@ -38,10 +40,7 @@ public interface AnyToolkitRepository extends AbstractRepository {
 	@Query("select iq from ItemQuantity iq where iq.toolkit.id = :masterId")
     Collection<ItemQuantity> findToolkitByItemName(int masterId);
 	
-	@Query("select c from MoneyExchangeCache c where c.source = :sourceCurrency and c.target=:targetCurrency")
-	Optional<MoneyExchangeCache> findCacheBySourceAndTarget(String sourceCurrency, String targetCurrency);
-	
-	@Query("select s.systemCurrency from SystemConfiguration s")
-	String findBaseCurrency();
+	@Query("select iq.toolkit.id, i.name from ItemQuantity iq join iq.item i where iq.toolkit.id in :ids order by iq.toolkit.id, iq.id")
+	Collection<Object[]> findItemNamesOfToolkits(Collection<Integer> ids);
 
 }
@@ -4,6 +4,7 @@ import java.util.Collection;
 
 import org.springframework.beans.factory.annotation.Autowired;
 import org.springframework.stereotype.Service;
+import org.springframework.transaction.annotation.Transactional;
 
 import acme.framework.components.models.Model;
 import acme.framework.controllers.Request;
@@ -12,6 +13,7 @@ import acme.framework.roles.Any;
 import acme.framework.services.AbstractListService;
 
 @Service
+@Transactional(readOnly = true)
 public class AnyUserAccountListService implements AbstractListService<Any, UserAccount> {
 	
 		// Internal state ---------------------------------------------------------
@@ -2,6 +2,7 @@ package acme.features.any.useraccounts;
 
 import org.springframework.beans.factory.annotation.Autowired;
 import org.springframework.stereotype.Service;
+import org.springframework.transaction.annotation.Transactional;
 
 import acme.framework.components.models.Model;
 import acme.framework.controllers.Request;
@@ -10,6 +11,7 @@ import acme.framework.roles.Any;
 import acme.framework.services.AbstractShowService;
 
 @Service
+@Transactional(readOnly = true)
 public class AnyUserAccountShowService implements AbstractShowService<Any, UserAccount> {
 	// Internal state ---------------------------------------------------------
 
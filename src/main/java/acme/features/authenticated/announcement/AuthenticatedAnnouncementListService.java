@@ -19,14 +19,18 @@ import java.util.Date;
 
 import org.springframework.beans.factory.annotation.Autowired;
 import org.springframework.stereotype.Service;
+import org.springframework.transaction.annotation.Transactional;
 
+import acme.components.KeysetPager;
 import acme.entities.Announcement;
 import acme.framework.components.models.Model;
 import acme.framework.controllers.Request;
+import acme.framework.helpers.CollectionHelper;
 import acme.framework.roles.Authenticated;
 import acme.framework.services.AbstractListService;
 
 @Service
+@Transactional(readOnly = true)
 public class AuthenticatedAnnouncementListService implements AbstractListService<Authenticated, Announcement> {
 
 	// Internal state ---------------------------------------------------------
@@ -34,6 +38,9 @@ public class AuthenticatedAnnouncementListService implements AbstractListService
 	@Autowired
 	protected AuthenticatedAnnouncementRepository repository;
 
+	@Autowired
+	protected KeysetPager pager;
+
 	// AbstractListService<Administrator, Announcement> interface --------------
 
 
@@ -56,7 +63,7 @@ public class AuthenticatedAnnouncementListService implements AbstractListService
 		calendar.add(Calendar.MONTH, -1);
 		deadline = calendar.getTime();
 
-		result = this.repository.findRecentAnnouncements(deadline);
+		result = this.repository.findRecentAnnouncements(deadline, this.pager.getCursor(request), this.pager.getPage(request));
 
 		return result;
 	}
@@ -70,4 +77,13 @@ public class AuthenticatedAnnouncementListService implements AbstractListService
 		request.unbind(entity, model, "title", "body", "creationMoment");
 	}
 
+	@Override
+	public void unbind(final Request<Announcement> request, final Collection<Announcement> entities, final Model model) {
+		assert request != null;
+		assert !CollectionHelper.someNull(entities);
+		assert model != null;
+
+		this.pager.unbindNextCursor(request, entities, model);
+	}
+
 }
@@ -3,6 +3,7 @@ package acme.features.inventor.chimpum;
 import org.springframework.beans.factory.annotation.Autowired;
 import org.springframework.stereotype.Service;
 
+import acme.components.DashboardStatisticsService;
 import acme.entities.Chimpum;
 import acme.entities.Item;
 import acme.framework.components.models.Model;
@@ -20,6 +21,9 @@ public class InventorChimpumDeleteService implements AbstractDeleteService<Inven
 	@Autowired
 	protected InventorChimpumRepository repository;
 
+	@Autowired
+	protected DashboardStatisticsService statisticsService;
+
 	// AbstractDeleteService<Inventor, Item> interface -------------------------
 
 
@@ -85,6 +89,8 @@ public class InventorChimpumDeleteService implements AbstractDeleteService<Inven
 		
 		Item item;
 		
+		this.statisticsService.removeChimpum(entity);
+
 		item = this.repository.findOneItemByChimpumId(entity.getId());
 		item.setChimpum(null);
 		
@@ -5,6 +5,7 @@ import java.util.Collection;
 
 import org.springframework.beans.factory.annotation.Autowired;
 import org.springframework.stereotype.Service;
+import org.springframework.transaction.annotation.Transactional;
 
 import acme.entities.Chimpum;
 import acme.framework.components.models.Model;
@@ -14,6 +15,7 @@ import acme.framework.services.AbstractListService;
 import acme.roles.Inventor;
 
 @Service
+@Transactional(readOnly = true)
 public class InventorChimpumListMineService implements AbstractListService<Inventor, Chimpum> {
 
 	// Internal state ---------------------------------------------------------
@@ -3,6 +3,7 @@ package acme.features.inventor.chimpum;
 
 import org.springframework.beans.factory.annotation.Autowired;
 import org.springframework.stereotype.Service;
+import org.springframework.transaction.annotation.Transactional;
 
 import acme.entities.Chimpum;
 import acme.entities.Item;
@@ -12,6 +13,7 @@ import acme.framework.services.AbstractShowService;
 import acme.roles.Inventor;
 
 @Service
+@Transactional(readOnly = true)
 public class InventorChimpumShowMineService implements AbstractShowService<Inventor, Chimpum> {
 
 	// Internal state ---------------------------------------------------------
@@ -1,21 +1,17 @@
 
 package acme.features.inventor.chimpum;
 
-import java.util.Arrays;
-import java.util.Collections;
 import java.util.Date;
-import java.util.LinkedList;
-import java.util.List;
 
 import org.apache.commons.lang3.time.DateUtils;
 import org.springframework.beans.factory.annotation.Autowired;
 import org.springframework.stereotype.Service;
 
+import acme.components.DashboardStatisticsService;
+import acme.components.SpamFilter;
+import acme.components.SystemConfigurationCache;
 import acme.entities.Chimpum;
 import acme.entities.Item;
-import acme.entities.SystemConfiguration;
-import acme.features.administrator.systemConfiguration.AdministratorSystemConfigurationRepository;
-import acme.features.spam.SpamDetector;
 import acme.framework.components.models.Model;
 import acme.framework.controllers.Errors;
 import acme.framework.controllers.Request;
@@ -30,10 +26,16 @@ public class InventorChimpumUpdateService implements AbstractUpdateService<Inven
 	// Internal state ---------------------------------------------------------
 
 	@Autowired
-	protected InventorChimpumRepository						repository;
+	protected InventorChimpumRepository		repository;
 
 	@Autowired
-	protected AdministratorSystemConfigurationRepository	scRepo;
+	protected SystemConfigurationCache		configurationCache;
+
+	@Autowired
+	protected SpamFilter					spamFilter;
+
+	@Autowired
+	protected DashboardStatisticsService	statisticsService;
 
 	// AbstractUpdateService<Inventor,Item> interface -----------------
 
@@ -70,23 +72,7 @@ public class InventorChimpumUpdateService implements AbstractUpdateService<Inven
 		assert entity != null;
 		assert errors != null;
 
-		final SystemConfiguration sc = this.scRepo.findSystemConfigurationById();
-		final String[] parts = sc.getStrongSpam().split(";");
-		final String[] parts2 = sc.getWeakSpam().split(";");
-		final List<String> strongSpam = new LinkedList<>();
-		final List<String> weakSpam = new LinkedList<>();
-		Collections.addAll(strongSpam, parts);
-		Collections.addAll(weakSpam, parts2);
-
-		if (entity.getDescription() != null && !entity.getDescription().equals("")) {
-			final boolean spam1 = SpamDetector.validateNoSpam(entity.getDescription(), weakSpam, sc.getWeakThreshold()) && SpamDetector.validateNoSpam(entity.getDescription(), strongSpam, sc.getStrongThreshold());
-			errors.state(request, spam1, "description", "inventor.chimpum.form.label.spam", "spam");
-		}
-
-		if (entity.getTitle() != null && !entity.getTitle().equals("")) {
-			final boolean spam1 = SpamDetector.validateNoSpam(entity.getTitle(), weakSpam, sc.getWeakThreshold()) && SpamDetector.validateNoSpam(entity.getTitle(), strongSpam, sc.getStrongThreshold());
-			errors.state(request, spam1, "title", "inventor.chimpum.form.label.spam", "spam");
-		}
+		this.spamFilter.validate(request, entity, errors, "inventor.chimpum.form.label.spam", "description", "title");
 
 		if (!errors.hasErrors("startDate")) {
 			final Date oneMonthAfterCreationDate = DateUtils.addMonths(entity.getCreationMoment(), 1);
@@ -147,17 +133,16 @@ public class InventorChimpumUpdateService implements AbstractUpdateService<Inven
 		assert request != null;
 		assert entity != null;
 
+		this.statisticsService.removeChimpum(entity);
+
 		this.repository.save(entity);
+		this.statisticsService.addChimpum(entity);
 	}
 
 	//Auxiliary methods
 
 	private boolean validateAvailableCurrency(final Money budget) {
-
-		final String currencies = this.scRepo.findAvailableCurrencies();
-		final List<Object> listOfAvailableCurrencies = Arrays.asList((Object[]) currencies.split(";"));
-
-		return listOfAvailableCurrencies.contains(budget.getCurrency());
+		return this.configurationCache.isAcceptedCurrency(budget.getCurrency());
 	}
 
 }
@@ -3,6 +3,8 @@ package acme.features.inventor.item;
 import org.springframework.beans.factory.annotation.Autowired;
 import org.springframework.stereotype.Service;
 
+import acme.components.CatalogueIndex;
+import acme.components.DashboardStatisticsService;
 import acme.entities.Item;
 import acme.framework.components.models.Model;
 import acme.framework.controllers.Errors;
@@ -19,6 +21,12 @@ public class InventorItemDeleteService implements AbstractDeleteService<Inventor
 	@Autowired
 	protected InventorItemRepository repository;
 
+	@Autowired
+	protected CatalogueIndex catalogueIndex;
+
+	@Autowired
+	protected DashboardStatisticsService statisticsService;
+
 	// AbstractDeleteService<Inventor, Item> interface -------------------------
 
 
@@ -82,7 +90,12 @@ public class InventorItemDeleteService implements AbstractDeleteService<Inventor
 		assert request != null;
 		assert entity != null;
 
+		this.statisticsService.removeItem(entity);
+		if (entity.getChimpum() != null)
+			this.statisticsService.removeChimpum(entity.getChimpum());
+
 		this.repository.delete(entity);
+		this.catalogueIndex.removeItem(entity);
 	}
 
 }
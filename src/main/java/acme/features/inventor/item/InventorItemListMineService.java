@@ -5,7 +5,9 @@ import java.util.Collection;
 
 import org.springframework.beans.factory.annotation.Autowired;
 import org.springframework.stereotype.Service;
+import org.springframework.transaction.annotation.Transactional;
 
+import acme.components.KeysetPager;
 import acme.entities.Item;
 import acme.entities.ItemType;
 import acme.framework.components.models.Model;
@@ -16,6 +18,7 @@ import acme.framework.services.AbstractListService;
 import acme.roles.Inventor;
 
 @Service
+@Transactional(readOnly = true)
 public class InventorItemListMineService implements AbstractListService<Inventor, Item> {
 
 	// Internal state ---------------------------------------------------------
@@ -23,6 +26,9 @@ public class InventorItemListMineService implements AbstractListService<Inventor
 	@Autowired
 	protected InventorItemRepository repository;
 
+	@Autowired
+	protected KeysetPager pager;
+
 	// AbstractListService<Inventor, Item> interface ---------------------------
 
 	@Override
@@ -42,7 +48,7 @@ public class InventorItemListMineService implements AbstractListService<Inventor
 
 		principal = request.getPrincipal();
 		type =ItemType.valueOf((String)request.getModel().getAttribute("type")); 
-		result = this.repository.findManyItemsByTypeAndInventorId(type, principal.getActiveRoleId());
+		result = this.repository.findManyItemsByTypeAndInventorId(type, principal.getActiveRoleId(), this.pager.getCursor(request), this.pager.getPage(request));
 
 		return result;
 	}
@@ -66,6 +72,7 @@ public class InventorItemListMineService implements AbstractListService<Inventor
 
 		type = request.getModel().getAttribute("type").toString();
 		model.setAttribute("type", type);
+		this.pager.unbindNextCursor(request, entities, model);
 	}
 
 }
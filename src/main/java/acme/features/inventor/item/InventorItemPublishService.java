@@ -1,19 +1,16 @@
 
 package acme.features.inventor.item;
 
-import java.util.Arrays;
-import java.util.Collections;
-import java.util.LinkedList;
-import java.util.List;
 
 import org.springframework.beans.factory.annotation.Autowired;
 import org.springframework.stereotype.Controller;
 
+import acme.components.CatalogueIndex;
+import acme.components.DashboardStatisticsService;
+import acme.components.SpamFilter;
+import acme.components.SystemConfigurationCache;
 import acme.entities.Item;
 import acme.entities.ItemType;
-import acme.entities.SystemConfiguration;
-import acme.features.administrator.systemConfiguration.AdministratorSystemConfigurationRepository;
-import acme.features.spam.SpamDetector;
 import acme.framework.components.models.Model;
 import acme.framework.controllers.Errors;
 import acme.framework.controllers.Request;
@@ -28,9 +25,18 @@ public class InventorItemPublishService implements AbstractUpdateService<Invento
 
 	@Autowired
 	protected InventorItemRepository repository;
+
+	@Autowired
+	protected CatalogueIndex catalogueIndex;
 	
 	@Autowired
-	protected AdministratorSystemConfigurationRepository	scRepo;
+	protected SpamFilter spamFilter;
+
+	@Autowired
+	protected SystemConfigurationCache configurationCache;
+
+	@Autowired
+	protected DashboardStatisticsService statisticsService;
 
 	// AbstractUpdateService<Inventor,Item> interface -----------------
 
@@ -53,11 +59,7 @@ public class InventorItemPublishService implements AbstractUpdateService<Invento
 	}
 
 	public boolean validateAvailableCurrencyRetailPrice(final Money retailPrice) {
-
-		final String currencies = this.repository.findAvailableCurrencies();
-		final List<Object> listOfAvailableCurrencies = Arrays.asList((Object[]) currencies.split(";"));
-		return listOfAvailableCurrencies.contains(retailPrice.getCurrency());
-
+		return this.configurationCache.isAcceptedCurrency(retailPrice.getCurrency());
 	}
 
 	@Override
@@ -66,28 +68,7 @@ public class InventorItemPublishService implements AbstractUpdateService<Invento
 		assert entity != null;
 		assert errors != null;
 		
-		final SystemConfiguration sc = this.scRepo.findSystemConfigurationById();
-		final String[] parts = sc.getStrongSpam().split(";");
-		final String[] parts2 = sc.getWeakSpam().split(";");
-		final List<String> strongSpam = new LinkedList<>();
-		final List<String> weakSpam = new LinkedList<>();
-		Collections.addAll(strongSpam, parts);
-		Collections.addAll(weakSpam, parts2);
-
-		if (entity.getDescription() != null && !entity.getDescription().equals("")) {
-			final boolean spam1 = SpamDetector.validateNoSpam(entity.getDescription(), weakSpam, sc.getWeakThreshold()) && SpamDetector.validateNoSpam(entity.getDescription(), strongSpam, sc.getStrongThreshold());
-			errors.state(request, spam1, "description", "inventor.item.form.label.spam", "spam");
-		}
-
-		if (entity.getName() != null && !entity.getName().equals("")) {
-			final boolean spam1 = SpamDetector.validateNoSpam(entity.getName(), weakSpam, sc.getWeakThreshold()) && SpamDetector.validateNoSpam(entity.getName(), strongSpam, sc.getStrongThreshold());
-			errors.state(request, spam1, "name", "inventor.item.form.label.spam", "spam");
-		}
-
-		if (entity.getTechnology() != null && !entity.getTechnology().equals("")) {
-			final boolean spam1 = SpamDetector.validateNoSpam(entity.getTechnology(), weakSpam, sc.getWeakThreshold()) && SpamDetector.validateNoSpam(entity.getTechnology(), strongSpam, sc.getStrongThreshold());
-			errors.state(request, spam1, "technology", "inventor.item.form.label.spam", "spam");
-		}
+		this.spamFilter.validate(request, entity, errors, "inventor.item.form.label.spam", "description", "name", "technology");
 
 		if (!errors.hasErrors("code")) {
 
@@ -153,8 +134,12 @@ public class InventorItemPublishService implements AbstractUpdateService<Invento
 		assert request != null;
 		assert entity != null;
 
+		this.statisticsService.removeItem(entity);
+
 		entity.setPublished(true);
 		this.repository.save(entity);
+		this.statisticsService.addItem(entity);
+		this.catalogueIndex.indexItem(entity);
 	}
 
 }
@@ -3,6 +3,7 @@ package acme.features.inventor.itemQuantity;
 import org.springframework.beans.factory.annotation.Autowired;
 import org.springframework.stereotype.Service;
 
+import acme.components.ToolkitPriceService;
 import acme.entities.ItemQuantity;
 import acme.entities.ItemType;
 import acme.entities.Toolkit;
@@ -18,6 +19,9 @@ public class InventorItemQuantityCreateService implements AbstractCreateService<
 	@Autowired
 	InventorItemQuantityRepository repository;
 	
+	@Autowired
+	ToolkitPriceService priceService;
+	
 	@Override
 	public boolean authorise(final Request<ItemQuantity> request) {
 		assert request != null;
@@ -95,6 +99,7 @@ public class InventorItemQuantityCreateService implements AbstractCreateService<
 		assert entity != null;
 		
 		this.repository.save(entity);
+		this.priceService.addItem(entity.getToolkit(), entity.getItem(), entity.getQuantity());
 	}
 
 }
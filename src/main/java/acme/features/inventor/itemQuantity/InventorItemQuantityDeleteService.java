@@ -3,6 +3,7 @@ package acme.features.inventor.itemQuantity;
 import org.springframework.beans.factory.annotation.Autowired;
 import org.springframework.stereotype.Service;
 
+import acme.components.ToolkitPriceService;
 import acme.entities.ItemQuantity;
 import acme.entities.Toolkit;
 import acme.framework.components.models.Model;
@@ -17,6 +18,9 @@ public class InventorItemQuantityDeleteService implements AbstractDeleteService<
 	@Autowired
 	InventorItemQuantityRepository repository;
 	
+	@Autowired
+	ToolkitPriceService priceService;
+	
 	
 	@Override
 	public boolean authorise(final Request<ItemQuantity> request) {
@@ -78,6 +82,7 @@ public class InventorItemQuantityDeleteService implements AbstractDeleteService<
 		assert entity != null;
 		
 		this.repository.delete(entity);
+		this.priceService.addItem(entity.getToolkit(), entity.getItem(), -entity.getQuantity());
 	}
 
 }
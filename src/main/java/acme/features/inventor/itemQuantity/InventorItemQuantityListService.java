@@ -4,6 +4,7 @@ import java.util.Collection;
 
 import org.springframework.beans.factory.annotation.Autowired;
 import org.springframework.stereotype.Service;
+import org.springframework.transaction.annotation.Transactional;
 
 import acme.entities.ItemQuantity;
 import acme.entities.ItemType;
@@ -17,6 +18,7 @@ import acme.roles.Inventor;
 
 
 @Service
+@Transactional(readOnly = true)
 public class InventorItemQuantityListService implements AbstractListService<Inventor, ItemQuantity>{
 
 	@Autowired
@@ -4,6 +4,7 @@ package acme.features.inventor.itemQuantity;
 import org.springframework.beans.factory.annotation.Autowired;
 import org.springframework.stereotype.Service;
 
+import acme.components.ToolkitPriceService;
 import acme.entities.ItemQuantity;
 import acme.entities.ItemType;
 import acme.framework.components.models.Model;
@@ -20,6 +21,9 @@ public class InventorItemQuantityUpdateService implements AbstractUpdateService<
 	@Autowired
 	InventorItemQuantityRepository repository;
 
+	@Autowired
+	ToolkitPriceService priceService;
+
 	// AbstractUpdateService<Inventor,Item> interface -----------------
 
 	@Override
@@ -93,6 +97,7 @@ public class InventorItemQuantityUpdateService implements AbstractUpdateService<
 		assert entity != null;
 
 		this.repository.save(entity);
+		this.priceService.addItem(entity.getToolkit(), entity.getItem(), entity.getQuantity() - entity.getLoadedQuantity());
 	}
 
 
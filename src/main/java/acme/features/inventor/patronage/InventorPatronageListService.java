@@ -5,15 +5,19 @@ import java.util.Collection;
 
 import org.springframework.beans.factory.annotation.Autowired;
 import org.springframework.stereotype.Service;
+import org.springframework.transaction.annotation.Transactional;
 
+import acme.components.KeysetPager;
 import acme.entities.Patronage;
 import acme.framework.components.models.Model;
 import acme.framework.controllers.Request;
 import acme.framework.entities.Principal;
+import acme.framework.helpers.CollectionHelper;
 import acme.framework.services.AbstractListService;
 import acme.roles.Inventor;
 
 @Service
+@Transactional(readOnly = true)
 public class InventorPatronageListService implements AbstractListService<Inventor, Patronage> {
 
 	// Internal state ---------------------------------------------------------
@@ -21,6 +25,9 @@ public class InventorPatronageListService implements AbstractListService<Invento
 		@Autowired
 		protected InventorPatronageRepository repository;
 
+		@Autowired
+		protected KeysetPager pager;
+
 	// AbstractListService<Inventor, Patronage> interface -----------------------------
 
 
@@ -39,7 +46,7 @@ public class InventorPatronageListService implements AbstractListService<Invento
 	        Principal principal;
 
 	        principal = request.getPrincipal();
-	        result = this.repository.findManyPatronagesByInventorId(principal.getActiveRoleId());
+	        result = this.repository.findManyPatronagesByInventorId(principal.getActiveRoleId(), this.pager.getCursor(request), this.pager.getPage(request));
 
 			return result;
 		}
@@ -51,4 +58,13 @@ public class InventorPatronageListService implements AbstractListService<Invento
 			assert model != null;
 			request.unbind(entity, model,"status","code", "legalStuff", "budget", "creationMoment", "startDate", "endDate", "moreInfo", "patron");
 		}
+
+		@Override
+		public void unbind(final Request<Patronage> request, final Collection<Patronage> entities, final Model model) {
+			assert request != null;
+			assert !CollectionHelper.someNull(entities);
+			assert model != null;
+
+			this.pager.unbindNextCursor(request, entities, model);
+		}
 }
\ No newline at end of file
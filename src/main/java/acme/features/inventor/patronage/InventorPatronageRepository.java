@@ -3,6 +3,7 @@ package acme.features.inventor.patronage;
 
 import java.util.Collection;
 
+import org.springframework.data.domain.Pageable;
 import org.springframework.data.jpa.repository.Query;
 import org.springframework.stereotype.Repository;
 
@@ -15,7 +16,7 @@ public interface InventorPatronageRepository extends AbstractRepository {
 	@Query("SELECT p FROM Patronage p WHERE p.id = :id")
     Patronage findOnePatronageById(int id);
 
-    @Query("SELECT p FROM Patronage p WHERE p.inventor.id = :inventorId and p.published=true")
-    Collection<Patronage> findManyPatronagesByInventorId(int inventorId);
+    @Query("SELECT p FROM Patronage p WHERE p.inventor.id = :inventorId and p.published=true and p.id > :cursor ORDER BY p.id")
+    Collection<Patronage> findManyPatronagesByInventorId(int inventorId, int cursor, Pageable page);
     
 }
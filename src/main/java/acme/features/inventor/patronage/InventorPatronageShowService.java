@@ -3,6 +3,7 @@ package acme.features.inventor.patronage;
 
 import org.springframework.beans.factory.annotation.Autowired;
 import org.springframework.stereotype.Service;
+import org.springframework.transaction.annotation.Transactional;
 
 import acme.entities.Patronage;
 import acme.framework.components.models.Model;
@@ -12,6 +13,7 @@ import acme.framework.services.AbstractShowService;
 import acme.roles.Inventor;
 
 @Service
+@Transactional(readOnly = true)
 public class InventorPatronageShowService implements AbstractShowService<Inventor, Patronage> {
 
 	// Internal state ---------------------------------------------------------
@@ -4,6 +4,7 @@ package acme.features.inventor.patronage;
 import org.springframework.beans.factory.annotation.Autowired;
 import org.springframework.stereotype.Service;
 
+import acme.components.DashboardStatisticsService;
 import acme.entities.Patronage;
 import acme.entities.PatronageStatus;
 import acme.framework.components.models.Model;
@@ -20,6 +21,9 @@ public class InventorPatronageUpdateService implements AbstractUpdateService<Inv
 	@Autowired
 	protected InventorPatronageRepository repository;
 
+	@Autowired
+	protected DashboardStatisticsService statisticsService;
+
 	// AbstractUpdateService<Inventor, Patronage> interface -----------------
 
 
@@ -84,7 +88,10 @@ public class InventorPatronageUpdateService implements AbstractUpdateService<Inv
 		assert request != null;
 		assert entity != null;
 
+		this.statisticsService.removePatronage(entity);
+
 		this.repository.save(entity);
+		this.statisticsService.addPatronage(entity);
 	}
 
 }
@@ -13,19 +13,14 @@
 package acme.features.inventor.patronageReport;
 
 import java.util.Collection;
-import java.util.Collections;
 import java.util.Date;
-import java.util.LinkedList;
-import java.util.List;
 
 import org.springframework.beans.factory.annotation.Autowired;
 import org.springframework.stereotype.Service;
 
+import acme.components.SpamFilter;
 import acme.entities.Patronage;
 import acme.entities.PatronageReport;
-import acme.entities.SystemConfiguration;
-import acme.features.administrator.systemConfiguration.AdministratorSystemConfigurationRepository;
-import acme.features.spam.SpamDetector;
 import acme.framework.components.models.Model;
 import acme.framework.controllers.Errors;
 import acme.framework.controllers.Request;
@@ -38,10 +33,10 @@ public class InventorPatronageReportCreateService implements AbstractCreateServi
 	// Internal state ---------------------------------------------------------
 
 	@Autowired
-	protected InventorPatronageReportRepository				repository;
+	protected InventorPatronageReportRepository	repository;
 
 	@Autowired
-	protected AdministratorSystemConfigurationRepository	scRepo;
+	protected SpamFilter						spamFilter;
 
 	// AbstractCreateService<Inventor, PatronageReport> interface --------------
 
@@ -106,24 +101,7 @@ public class InventorPatronageReportCreateService implements AbstractCreateServi
 		assert entity != null;
 		assert errors != null;
 
-		final SystemConfiguration sc = this.scRepo.findSystemConfigurationById();
-		final String[] parts = sc.getStrongSpam().split(";");
-		final String[] parts2 = sc.getWeakSpam().split(";");
-		final List<String> strongSpam = new LinkedList<>();
-		final List<String> weakSpam = new LinkedList<>();
-		Collections.addAll(strongSpam, parts);
-		Collections.addAll(weakSpam, parts2);
-
-		if (entity.getMemorandum() != null && !entity.getMemorandum().equals("")) {
-			final boolean spam1 = SpamDetector.validateNoSpam(entity.getMemorandum(), weakSpam, sc.getWeakThreshold()) && SpamDetector.validateNoSpam(entity.getMemorandum(), strongSpam, sc.getStrongThreshold());
-
-			errors.state(request, spam1, "memorandum", "inventor.patronage-report.form.label.spam", "spam");
-		}
-		if (!entity.getMoreInfo().equals("") && entity.getMoreInfo() != null) {
-			final boolean spam2 = SpamDetector.validateNoSpam(entity.getMoreInfo(), weakSpam, sc.getWeakThreshold()) && SpamDetector.validateNoSpam(entity.getMoreInfo(), strongSpam, sc.getStrongThreshold());
-
-			errors.state(request, spam2, "moreInfo", "inventor.patronage-report.form.label.spam", "spam");
-		}
+		this.spamFilter.validate(request, entity, errors, "inventor.patronage-report.form.label.spam", "memorandum", "moreInfo");
 
 		boolean confirmation;
 		confirmation = request.getModel().getBoolean("confirmation");
@@ -6,15 +6,19 @@ import java.util.Collection;
 
 import org.springframework.beans.factory.annotation.Autowired;
 import org.springframework.stereotype.Service;
+import org.springframework.transaction.annotation.Transactional;
 
+import acme.components.KeysetPager;
 import acme.entities.PatronageReport;
 import acme.framework.components.models.Model;
 import acme.framework.controllers.Request;
 import acme.framework.entities.Principal;
+import acme.framework.helpers.CollectionHelper;
 import acme.framework.services.AbstractListService;
 import acme.roles.Inventor;
 
 @Service
+@Transactional(readOnly = true)
 public class InventorPatronageReportListMineService implements AbstractListService<Inventor, PatronageReport> {
 	
 	// Internal state ---------------------------------------------------------
@@ -22,6 +26,9 @@ public class InventorPatronageReportListMineService implements AbstractListServi
 	@Autowired	
 	protected InventorPatronageReportRepository repository;
 
+	@Autowired
+	protected KeysetPager pager;
+
 	// AbstractListService<Inventor, PatronageReport> interface ---------------------------
 	
 	@Override
@@ -39,7 +46,7 @@ public class InventorPatronageReportListMineService implements AbstractListServi
 		Principal principal;
 
 		principal = request.getPrincipal();
-		result = this.repository.findManyPatronagesReportByInventorId(principal.getActiveRoleId());
+		result = this.repository.findManyPatronagesReportByInventorId(principal.getActiveRoleId(), this.pager.getCursor(request), this.pager.getPage(request));
 
 		return result;
 	}
@@ -55,6 +62,15 @@ public class InventorPatronageReportListMineService implements AbstractListServi
 		
 	}
 
+	@Override
+	public void unbind(final Request<PatronageReport> request, final Collection<PatronageReport> entities, final Model model) {
+		assert request != null;
+		assert !CollectionHelper.someNull(entities);
+		assert model != null;
+
+		this.pager.unbindNextCursor(request, entities, model);
+	}
+
 	
 
 }
\ No newline at end of file
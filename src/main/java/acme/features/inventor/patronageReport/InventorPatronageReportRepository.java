@@ -3,6 +3,7 @@ package acme.features.inventor.patronageReport;
 import java.util.Collection;
 import java.util.List;
 
+import org.springframework.data.domain.Pageable;
 import org.springframework.data.jpa.repository.Query;
 
 import acme.entities.Patronage;
@@ -15,8 +16,8 @@ public interface InventorPatronageReportRepository extends AbstractRepository {
 	@Query("select pr from PatronageReport pr where pr.id = :id")
 	PatronageReport findOneById(int id);
 	
-	@Query("select pr from PatronageReport pr where pr.patronage.inventor.id = :inventorId")
-	Collection<PatronageReport> findManyPatronagesReportByInventorId(int inventorId);
+	@Query("select pr from PatronageReport pr where pr.patronage.inventor.id = :inventorId and pr.id > :cursor order by pr.id")
+	Collection<PatronageReport> findManyPatronagesReportByInventorId(int inventorId, int cursor, Pageable page);
 	
 	@Query("select i from Inventor i where i.id = :id")
 	Inventor findOneInventorById(int id);
@@ -5,6 +5,7 @@ import java.util.Collection;
 import org.springframework.beans.factory.annotation.Autowired;
 import org.springframework.stereotype.Service;
 
+import acme.components.CatalogueIndex;
 import acme.entities.ItemQuantity;
 import acme.entities.Toolkit;
 import acme.framework.components.models.Model;
@@ -19,6 +20,9 @@ public class InventorToolkitDeleteService implements AbstractDeleteService<Inven
 	
 	@Autowired
 	protected InventorToolkitRepository repository;
+
+	@Autowired
+	protected CatalogueIndex catalogueIndex;
 	
 	@Override
 	public boolean authorise(final Request<Toolkit> request) {
@@ -82,7 +86,8 @@ public class InventorToolkitDeleteService implements AbstractDeleteService<Inven
 
 		final Collection<ItemQuantity> quantities = this.repository.findItemQuantitiesOfToolkit(entity.getId());
 		this.repository.deleteAll(quantities);
-		this.repository.delete(entity);		
+		this.repository.delete(entity);
+		this.catalogueIndex.removeToolkit(entity);		
 	}
 
 }
@@ -5,15 +5,19 @@ import java.util.Collection;
 
 import org.springframework.beans.factory.annotation.Autowired;
 import org.springframework.stereotype.Service;
+import org.springframework.transaction.annotation.Transactional;
 
+import acme.components.KeysetPager;
 import acme.entities.Toolkit;
 import acme.framework.components.models.Model;
 import acme.framework.controllers.Request;
 import acme.framework.entities.Principal;
+import acme.framework.helpers.CollectionHelper;
 import acme.framework.services.AbstractListService;
 import acme.roles.Inventor;
 
 @Service
+@Transactional(readOnly = true)
 public class InventorToolkitListMineService implements AbstractListService<Inventor, Toolkit> {
 
 	// Internal state ---------------------------------------------------------
@@ -21,6 +25,9 @@ public class InventorToolkitListMineService implements AbstractListService<Inven
 	@Autowired
 	protected InventorToolkitRepository repository;
 
+	@Autowired
+	protected KeysetPager pager;
+
 	// AbstractListService<Inventor, Item> interface -----------------------------
 
 
@@ -39,7 +46,7 @@ public class InventorToolkitListMineService implements AbstractListService<Inven
 		Principal principal;
 
 		principal = request.getPrincipal();
-		result = this.repository.findToolkitsByInventorId(principal.getActiveRoleId());
+		result = this.repository.findToolkitsByInventorId(principal.getActiveRoleId(), this.pager.getCursor(request), this.pager.getPage(request));
 
 		return result;
 	}
@@ -52,4 +59,13 @@ public class InventorToolkitListMineService implements AbstractListService<Inven
 
 		request.unbind(entity, model, "code", "title", "description");
 	}
+
+	@Override
+	public void unbind(final Request<Toolkit> request, final Collection<Toolkit> entities, final Model model) {
+		assert request != null;
+		assert !CollectionHelper.someNull(entities);
+		assert model != null;
+
+		this.pager.unbindNextCursor(request, entities, model);
+	}
 }
@@ -1,19 +1,15 @@
 package acme.features.inventor.toolkit;
 
 import java.util.Collection;
-import java.util.Collections;
-import java.util.LinkedList;
-import java.util.List;
 
 import org.springframework.beans.factory.annotation.Autowired;
 import org.springframework.stereotype.Service;
 
+import acme.components.CatalogueIndex;
+import acme.components.SpamFilter;
 import acme.entities.Item;
 import acme.entities.ItemQuantity;
-import acme.entities.SystemConfiguration;
 import acme.entities.Toolkit;
-import acme.features.administrator.systemConfiguration.AdministratorSystemConfigurationRepository;
-import acme.features.spam.SpamDetector;
 import acme.framework.components.models.Model;
 import acme.framework.controllers.Errors;
 import acme.framework.controllers.Request;
@@ -26,9 +22,12 @@ public class InventorToolkitPublishService implements AbstractUpdateService<Inve
 	
 	@Autowired
 	protected InventorToolkitRepository repository;
+
+	@Autowired
+	protected CatalogueIndex catalogueIndex;
 	
 	@Autowired
-	protected AdministratorSystemConfigurationRepository	scRepo;
+	protected SpamFilter spamFilter;
 	
 	
 	@Override
@@ -79,29 +78,8 @@ public class InventorToolkitPublishService implements AbstractUpdateService<Inve
 		assert entity != null;
 		assert errors != null;
 		
-		final SystemConfiguration sc = this.scRepo.findSystemConfigurationById();
-		final String[] parts = sc.getStrongSpam().split(";");
-		final String[] parts2 = sc.getWeakSpam().split(";");
-		final List<String> strongSpam = new LinkedList<>();
-		final List<String> weakSpam = new LinkedList<>();
-		Collections.addAll(strongSpam, parts);
-		Collections.addAll(weakSpam, parts2);
-
-		if (entity.getDescription() != null && !entity.getDescription().equals("")) {
-			final boolean spam1 = SpamDetector.validateNoSpam(entity.getDescription(), weakSpam, sc.getWeakThreshold()) && SpamDetector.validateNoSpam(entity.getDescription(), strongSpam, sc.getStrongThreshold());
-			errors.state(request, spam1, "description", "inventor.toolkit.form.label.spam", "spam");
-		}
+		this.spamFilter.validate(request, entity, errors, "inventor.toolkit.form.label.spam", "description", "title", "assemblyNotes");
 
-		if (entity.getTitle() != null && !entity.getTitle().equals("")) {
-			final boolean spam1 = SpamDetector.validateNoSpam(entity.getTitle(), weakSpam, sc.getWeakThreshold()) && SpamDetector.validateNoSpam(entity.getTitle(), strongSpam, sc.getStrongThreshold());
-			errors.state(request, spam1, "title", "inventor.toolkit.form.label.spam", "spam");
-		}
-
-		if (entity.getAssemblyNotes() != null && !entity.getAssemblyNotes().equals("")) {
-			final boolean spam1 = SpamDetector.validateNoSpam(entity.getAssemblyNotes(), weakSpam, sc.getWeakThreshold()) && SpamDetector.validateNoSpam(entity.getAssemblyNotes(), strongSpam, sc.getStrongThreshold());
-			errors.state(request, spam1, "assemblyNotes", "inventor.toolkit.form.label.spam", "spam");
-		}
-		
 		if (!errors.hasErrors("code")) {
 			final Toolkit alreadyExists = this.repository.findOneToolkitByCode(entity.getCode());
 			errors.state(request, alreadyExists == null || alreadyExists.getId() == entity.getId(), "code", "inventor.toolkit.form.error.duplicated");
@@ -120,6 +98,7 @@ public class InventorToolkitPublishService implements AbstractUpdateService<Inve
 		
 		entity.setDraftMode(false);
 		this.repository.save(entity);
+		this.catalogueIndex.indexToolkit(entity);
 		
 	}
 
@@ -1,15 +1,14 @@
 package acme.features.inventor.toolkit;
 
 import java.util.Collection;
-import java.util.Optional;
 
+import org.springframework.data.domain.Pageable;
 import org.springframework.data.jpa.repository.Query;
 import org.springframework.stereotype.Repository;
 
 import acme.entities.Item;
 import acme.entities.ItemQuantity;
 import acme.entities.ItemType;
-import acme.entities.MoneyExchangeCache;
 import acme.entities.Toolkit;
 import acme.framework.repositories.AbstractRepository;
 import acme.roles.Inventor;
@@ -36,8 +35,8 @@ public interface InventorToolkitRepository extends AbstractRepository {
 	@Query("select i from Item i where i.inventor = :inventorId")
 	Collection<Item> findItemsByInventor(int inventorId);
 	
-	@Query("select t from Toolkit t where t.inventor.id = :inventorId")
-	Collection<Toolkit> findToolkitsByInventorId(int inventorId);
+	@Query("select t from Toolkit t where t.inventor.id = :inventorId and t.id > :cursor order by t.id")
+	Collection<Toolkit> findToolkitsByInventorId(int inventorId, int cursor, Pageable page);
 	
 	@Query("select i from Item i")
 	Collection<Item> findAllItems();
@@ -48,10 +47,4 @@ public interface InventorToolkitRepository extends AbstractRepository {
 	@Query("select t from Toolkit t where t.code = :code")
 	Toolkit findOneToolkitByCode(String code);
 
-	@Query("select s.systemCurrency from SystemConfiguration s")
-	String findBaseCurrency();
-	
-	@Query("select c from MoneyExchangeCache c where c.source = :sourceCurrency and c.target=:targetCurrency")
-	Optional<MoneyExchangeCache> findCacheBySourceAndTarget(String sourceCurrency, String targetCurrency);
-
 }
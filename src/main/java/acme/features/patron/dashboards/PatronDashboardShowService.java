@@ -6,7 +6,11 @@ import java.util.Map;
 
 import org.springframework.beans.factory.annotation.Autowired;
 import org.springframework.stereotype.Service;
+import org.springframework.transaction.annotation.Transactional;
 
+import acme.components.DashboardStatisticsService;
+import acme.components.RunningStatistics;
+import acme.entities.PatronageStatus;
 import acme.features.patron.patronage.PatronPatronageRepository;
 import acme.forms.PatronDashboard;
 import acme.framework.components.models.Model;
@@ -15,12 +19,13 @@ import acme.framework.services.AbstractShowService;
 import acme.roles.Patron;
 
 @Service
+@Transactional(readOnly = true)
 public class PatronDashboardShowService implements AbstractShowService<Patron, PatronDashboard>{
 
 	// Internal state ---------------------------------------------------------
 
 	@Autowired
-	protected PatronDashboardRepository repository;
+	protected DashboardStatisticsService statisticsService;
 	
 	protected PatronPatronageRepository repositoryP;
 
@@ -36,44 +41,26 @@ public class PatronDashboardShowService implements AbstractShowService<Patron, P
 	@Override
 	public PatronDashboard findOne(final Request<PatronDashboard> request) {
 		assert request != null;
-		final Integer id = request.getPrincipal().getActiveRoleId();
+		final int id = request.getPrincipal().getActiveRoleId();
 
 		final PatronDashboard result;
+		final Map<PatronageStatus, RunningStatistics> statistics;
+		RunningStatistics value;
+		String status;
+
+		statistics = this.statisticsService.getPatronageStatistics(id);
 
-		final int numberOfAcceptedPatronages = this.repository.numberOfAcceptedPatronages(id).intValue();
-		final int numberOfDeniedPatronages = this.repository.numberOfDeniedPatronages(id).intValue();
-		final int numberOfProposedPatronages = this.repository.numberOfProposedPatronages(id).intValue();
-		final Double minPriceOfAcceptedPatronages = this.repository.minBudgetAcceptedPatronages(id);
-		final Double maxPriceOfAcceptedPatronages = this.repository.maxBudgetAcceptedPatronages(id);
-		final Double averagePriceOfAcceptedPatronages = this.repository.averageBudgetAcceptedPatronages(id);
-		final Double deviationPriceOfAcceptedPatronages = this.repository.deviationBudgetAcceptedPatronages(id);
-		final Double minPriceOfDeniedPatronages = this.repository.minBudgetDeniedPatronages(id);
-		final Double maxPriceOfDeniedPatronages = this.repository.maxBudgetDeniedPatronages(id);
-		final Double averagePriceOfDeniedPatronages = this.repository.averageBudgetDeniedPatronages(id);
-		final Double deviationPriceOfDeniedPatronages = this.repository.deviationBudgetDeniedPatronages(id);
-		final Double minPriceOfProposedPatronages = this.repository.minBudgetProposedPatronages(id);
-		final Double maxPriceOfProposedPatronages = this.repository.maxBudgetProposedPatronages(id);
-		final Double averagePriceOfProposedPatronages = this.repository.averageBudgetProposedPatronages(id);
-		final Double deviationPriceOfProposedPatronages = this.repository.deviationBudgetProposedPatronages(id);
-		
 		final Map<String, Integer> numberOfPatronages = new HashMap<>();
-		numberOfPatronages.put("accepted", numberOfAcceptedPatronages);
-		numberOfPatronages.put("denied", numberOfDeniedPatronages);
-		numberOfPatronages.put("proposed", numberOfProposedPatronages);
-		
 		final Map<String, Double> patronageStats = new HashMap<>();
-		patronageStats.put("maxAccepted", maxPriceOfAcceptedPatronages);
-		patronageStats.put("minAccepted", minPriceOfAcceptedPatronages);
-		patronageStats.put("averageAccepted", averagePriceOfAcceptedPatronages);
-		patronageStats.put("deviationAccepted", deviationPriceOfAcceptedPatronages);
-		patronageStats.put("maxDenied", maxPriceOfDeniedPatronages);
-		patronageStats.put("minDenied", minPriceOfDeniedPatronages);
-		patronageStats.put("averageDenied", averagePriceOfDeniedPatronages);
-		patronageStats.put("deviationDenied", deviationPriceOfDeniedPatronages);
-		patronageStats.put("maxProposed", maxPriceOfProposedPatronages);
-		patronageStats.put("minProposed", minPriceOfProposedPatronages);
-		patronageStats.put("averageProposed", averagePriceOfProposedPatronages);
-		patronageStats.put("deviationProposed", deviationPriceOfProposedPatronages);
+		for (final PatronageStatus key : PatronageStatus.values()) {
+			value = statistics.getOrDefault(key, new RunningStatistics());
+			status = key.name().charAt(0) + key.name().substring(1).toLowerCase();
+			numberOfPatronages.put(key.name().toLowerCase(), (int) value.getCount());
+			patronageStats.put("max" + status, value.getMaximum());
+			patronageStats.put("min" + status, value.getMinimum());
+			patronageStats.put("average" + status, value.getAverage());
+			patronageStats.put("deviation" + status, value.getDeviation());
+		}
 
 		result = new PatronDashboard();
 		result.setNumberOfPatronages(numberOfPatronages);
@@ -1,22 +1,18 @@
 
 package acme.features.patron.patronage;
 
-import java.util.Arrays;
 import java.util.Calendar;
-import java.util.Collections;
 import java.util.Date;
-import java.util.LinkedList;
-import java.util.List;
 
 import org.apache.commons.lang3.time.DateUtils;
 import org.springframework.beans.factory.annotation.Autowired;
 import org.springframework.stereotype.Service;
 
+import acme.components.DashboardStatisticsService;
+import acme.components.SpamFilter;
+import acme.components.SystemConfigurationCache;
 import acme.entities.Patronage;
 import acme.entities.PatronageStatus;
-import acme.entities.SystemConfiguration;
-import acme.features.administrator.systemConfiguration.AdministratorSystemConfigurationRepository;
-import acme.features.spam.SpamDetector;
 import acme.framework.components.models.Model;
 import acme.framework.controllers.Errors;
 import acme.framework.controllers.Request;
@@ -30,10 +26,16 @@ public class PatronPatronageCreateService implements AbstractCreateService<Patro
 	// Internal state ---------------------------------------------------------
 
 	@Autowired
-	protected PatronPatronageRepository						repository;
+	protected PatronPatronageRepository		repository;
 
 	@Autowired
-	protected AdministratorSystemConfigurationRepository	scRepo;
+	protected SystemConfigurationCache		configurationCache;
+
+	@Autowired
+	protected SpamFilter					spamFilter;
+
+	@Autowired
+	protected DashboardStatisticsService	statisticsService;
 
 	// AbstractCreateService<Patron, Patronage> interface -------------------------
 
@@ -129,25 +131,7 @@ public class PatronPatronageCreateService implements AbstractCreateService<Patro
 		moment = new Date(System.currentTimeMillis() - 1);
 		entity.setCreationMoment(moment);
 
-		final SystemConfiguration sc = this.scRepo.findSystemConfigurationById();
-		final String[] parts = sc.getStrongSpam().split(";");
-		final String[] parts2 = sc.getWeakSpam().split(";");
-		final List<String> strongSpam = new LinkedList<>();
-		final List<String> weakSpam = new LinkedList<>();
-		Collections.addAll(strongSpam, parts);
-		Collections.addAll(weakSpam, parts2);
-
-		if (entity.getLegalStuff() != null && !entity.getLegalStuff().equals("")) {
-			final boolean spam1 = SpamDetector.validateNoSpam(entity.getLegalStuff(), weakSpam, sc.getWeakThreshold()) && SpamDetector.validateNoSpam(entity.getLegalStuff(), strongSpam, sc.getStrongThreshold());
-
-			errors.state(request, spam1, "legalStuff", "patron.patronage.form.label.spam", "spam");
-		}
-
-		if (!entity.getMoreInfo().equals("") && entity.getMoreInfo() != null) {
-			final boolean spam2 = SpamDetector.validateNoSpam(entity.getMoreInfo(), weakSpam, sc.getWeakThreshold()) && SpamDetector.validateNoSpam(entity.getMoreInfo(), strongSpam, sc.getStrongThreshold());
-
-			errors.state(request, spam2, "moreInfo", "patron.patronage.form.label.spam", "spam");
-		}
+		this.spamFilter.validate(request, entity, errors, "patron.patronage.form.label.spam", "legalStuff", "moreInfo");
 
 		if (!errors.hasErrors("code")) {
 			Patronage existing;
@@ -187,15 +171,12 @@ public class PatronPatronageCreateService implements AbstractCreateService<Patro
 		entity.setPublished(false);
 
 		this.repository.save(entity);
+		this.statisticsService.addPatronage(entity);
 
 	}
 
 	public boolean validateAvailableCurrency(final Money money) {
-
-		final String currencies = this.scRepo.findAvailableCurrencies();
-		final List<Object> listOfAvailableCurrencies = Arrays.asList((Object[]) currencies.split(";"));
-
-		return listOfAvailableCurrencies.contains(money.getCurrency());
+		return this.configurationCache.isAcceptedCurrency(money.getCurrency());
 	}
 
 }
@@ -5,6 +5,7 @@ import java.util.Collection;
 import org.springframework.beans.factory.annotation.Autowired;
 import org.springframework.stereotype.Service;
 
+import acme.components.DashboardStatisticsService;
 import acme.entities.Patronage;
 import acme.entities.PatronageReport;
 import acme.framework.components.models.Model;
@@ -21,6 +22,9 @@ public class PatronPatronageDeleteService implements AbstractDeleteService<Patro
 	@Autowired
 	protected PatronPatronageRepository repository;
 
+	@Autowired
+	protected DashboardStatisticsService statisticsService;
+
 	// AbstractDeleteService<Patron, Patronage> -------------------------------------
 		
 	@Override
@@ -83,6 +87,8 @@ public class PatronPatronageDeleteService implements AbstractDeleteService<Patro
 
 		Collection<PatronageReport> patronageReports;
 		
+		this.statisticsService.removePatronage(entity);
+
 		patronageReports = this.repository.findPatronageReportsByPatronageId(entity.getId());
 		
 		for(final PatronageReport pr: patronageReports) {
@@ -16,15 +16,19 @@ import java.util.Collection;
 
 import org.springframework.beans.factory.annotation.Autowired;
 import org.springframework.stereotype.Service;
+import org.springframework.transaction.annotation.Transactional;
 
+import acme.components.KeysetPager;
 import acme.entities.Patronage;
 import acme.framework.components.models.Model;
 import acme.framework.controllers.Request;
 import acme.framework.entities.Principal;
+import acme.framework.helpers.CollectionHelper;
 import acme.framework.services.AbstractListService;
 import acme.roles.Patron;
 
 @Service
+@Transactional(readOnly = true)
 public class PatronPatronageListMineService implements AbstractListService<Patron, Patronage> {
 
 	// Internal state ---------------------------------------------------------
@@ -32,6 +36,9 @@ public class PatronPatronageListMineService implements AbstractListService<Patro
 			@Autowired
 			protected PatronPatronageRepository repository;
 
+			@Autowired
+			protected KeysetPager pager;
+
 		// AbstractListService<Inventor, Patronage> interface -----------------------------
 
 
@@ -50,7 +57,7 @@ public class PatronPatronageListMineService implements AbstractListService<Patro
 		        Principal principal;
 
 		        principal = request.getPrincipal();
-		        result = this.repository.findManyPatronagesByPatronId(principal.getActiveRoleId());
+		        result = this.repository.findManyPatronagesByPatronId(principal.getActiveRoleId(), this.pager.getCursor(request), this.pager.getPage(request));
 
 				return result;
 			}
@@ -63,4 +70,13 @@ public class PatronPatronageListMineService implements AbstractListService<Patro
 				request.unbind(entity, model,"status","code", "legalStuff", "budget", "creationMoment", "startDate", "endDate", "moreInfo", "published", "patron");
 			}
 
+			@Override
+			public void unbind(final Request<Patronage> request, final Collection<Patronage> entities, final Model model) {
+				assert request != null;
+				assert !CollectionHelper.someNull(entities);
+				assert model != null;
+
+				this.pager.unbindNextCursor(request, entities, model);
+			}
+
 }
@@ -1,19 +1,15 @@
 package acme.features.patron.patronage;
 
-import java.util.Arrays;
-import java.util.Collections;
 import java.util.Date;
-import java.util.LinkedList;
-import java.util.List;
 
 import org.apache.commons.lang3.time.DateUtils;
 import org.springframework.beans.factory.annotation.Autowired;
 import org.springframework.stereotype.Service;
 
+import acme.components.DashboardStatisticsService;
+import acme.components.SpamFilter;
+import acme.components.SystemConfigurationCache;
 import acme.entities.Patronage;
-import acme.entities.SystemConfiguration;
-import acme.features.administrator.systemConfiguration.AdministratorSystemConfigurationRepository;
-import acme.features.spam.SpamDetector;
 import acme.framework.components.models.Model;
 import acme.framework.controllers.Errors;
 import acme.framework.controllers.Request;
@@ -28,10 +24,16 @@ public class PatronPatronagePublishService implements AbstractUpdateService<Patr
 	// Internal state ---------------------------------------------------------
 
 	@Autowired
-	protected PatronPatronageRepository repository;
+	protected PatronPatronageRepository		repository;
 	
 	@Autowired
-	protected AdministratorSystemConfigurationRepository	scRepo;
+	protected SystemConfigurationCache		configurationCache;
+
+	@Autowired
+	protected SpamFilter					spamFilter;
+
+	@Autowired
+	protected DashboardStatisticsService	statisticsService;
 
 	// AbstractUpdateService<Patron, Patronage> -------------------------------------
 
@@ -98,19 +100,7 @@ public class PatronPatronagePublishService implements AbstractUpdateService<Patr
 		assert entity != null;
 		assert errors != null;
 		
-		final SystemConfiguration sc = this.scRepo.findSystemConfigurationById();
-		final String[] parts = sc.getStrongSpam().split(";");
-		final String[] parts2 = sc.getWeakSpam().split(";");
-		final List<String> strongSpam = new LinkedList<>();
-		final List<String> weakSpam = new LinkedList<>();
-		Collections.addAll(strongSpam, parts);
-		Collections.addAll(weakSpam, parts2);
-
-		if (entity.getLegalStuff() != null && !entity.getLegalStuff().equals("")) {
-			final boolean spam1 = SpamDetector.validateNoSpam(entity.getLegalStuff(), weakSpam, sc.getWeakThreshold()) && SpamDetector.validateNoSpam(entity.getLegalStuff(), strongSpam, sc.getStrongThreshold());
-
-			errors.state(request, spam1, "legalStuff", "patron.patronage.form.label.spam", "spam");
-		}
+		this.spamFilter.validate(request, entity, errors, "patron.patronage.form.label.spam", "legalStuff");
 
 		if (!errors.hasErrors("code")) {
 			final String oldCode = this.repository.findOnePatronageById(entity.getId()).getCode();
@@ -144,16 +134,15 @@ public class PatronPatronagePublishService implements AbstractUpdateService<Patr
 		assert request != null;
 		assert entity != null;
 		
+		this.statisticsService.removePatronage(entity);
+
 		entity.setPublished(true);
 		this.repository.save(entity);
+		this.statisticsService.addPatronage(entity);
 	}
 	
 	public boolean validateAvailableCurrency(final Money money) {
-
-		final String currencies = this.scRepo.findAvailableCurrencies();
-		final List<Object> listOfAvailableCurrencies = Arrays.asList((Object[]) currencies.split(";"));
-
-		return listOfAvailableCurrencies.contains(money.getCurrency());
+		return this.configurationCache.isAcceptedCurrency(money.getCurrency());
 	}
 
 
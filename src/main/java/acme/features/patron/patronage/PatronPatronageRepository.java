@@ -2,6 +2,7 @@ package acme.features.patron.patronage;
 
 import java.util.Collection;
 
+import org.springframework.data.domain.Pageable;
 import org.springframework.data.jpa.repository.Query;
 import org.springframework.stereotype.Repository;
 
@@ -23,8 +24,8 @@ public interface PatronPatronageRepository extends AbstractRepository{
 	@Query("select p from Patronage p WHERE p.code = :code")
     Patronage findOnePatronageByCode(String code);
 
-    @Query("select p from Patronage p WHERE p.patron.id = :patronId")
-    Collection<Patronage> findManyPatronagesByPatronId(int patronId);
+    @Query("select p from Patronage p WHERE p.patron.id = :patronId and p.id > :cursor order by p.id")
+    Collection<Patronage> findManyPatronagesByPatronId(int patronId, int cursor, Pageable page);
     
     @Query("select p from Patron p where p.id = :id")
     Patron findOnePatronById(int id);
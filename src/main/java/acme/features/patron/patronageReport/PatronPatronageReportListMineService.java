@@ -4,20 +4,27 @@ import java.util.Collection;
 
 import org.springframework.beans.factory.annotation.Autowired;
 import org.springframework.stereotype.Service;
+import org.springframework.transaction.annotation.Transactional;
 
+import acme.components.KeysetPager;
 import acme.entities.PatronageReport;
 import acme.framework.components.models.Model;
 import acme.framework.controllers.Request;
 import acme.framework.entities.Principal;
+import acme.framework.helpers.CollectionHelper;
 import acme.framework.services.AbstractListService;
 import acme.roles.Patron;
 
 @Service
+@Transactional(readOnly = true)
 public class PatronPatronageReportListMineService implements AbstractListService<Patron, PatronageReport>{
 
 	@Autowired
 	PatronPatronageReportRepository repository;
 	
+	@Autowired
+	KeysetPager pager;
+	
 	@Override
 	public boolean authorise(final Request<PatronageReport> request) {
 		assert request != null;
@@ -30,7 +37,7 @@ public class PatronPatronageReportListMineService implements AbstractListService
 		Principal principal;
 
 		principal = request.getPrincipal();
-		result = this.repository.findManyPatronagesReportByPatronId(principal.getActiveRoleId());
+		result = this.repository.findManyPatronagesReportByPatronId(principal.getActiveRoleId(), this.pager.getCursor(request), this.pager.getPage(request));
 
 		return result;
 	}
@@ -44,4 +51,13 @@ public class PatronPatronageReportListMineService implements AbstractListService
 		request.unbind(entity, model,"sequenceNumber","patronage.code");		
 	}
 
+	@Override
+	public void unbind(final Request<PatronageReport> request, final Collection<PatronageReport> entities, final Model model) {
+		assert request != null;
+		assert !CollectionHelper.someNull(entities);
+		assert model != null;
+
+		this.pager.unbindNextCursor(request, entities, model);
+	}
+
 }
@@ -2,6 +2,7 @@ package acme.features.patron.patronageReport;
 
 import java.util.Collection;
 
+import org.springframework.data.domain.Pageable;
 import org.springframework.data.jpa.repository.Query;
 import org.springframework.stereotype.Repository;
 
@@ -15,7 +16,7 @@ public interface PatronPatronageReportRepository extends AbstractRepository{
 	@Query("select pr from PatronageReport pr where pr.id = :id")
 	PatronageReport findOneById(int id);
 	
-	@Query("select pr from PatronageReport pr where pr.patronage.patron.id = :patronId")
-	Collection<PatronageReport> findManyPatronagesReportByPatronId(int patronId);
+	@Query("select pr from PatronageReport pr where pr.patronage.patron.id = :patronId and pr.id > :cursor order by pr.id")
+	Collection<PatronageReport> findManyPatronagesReportByPatronId(int patronId, int cursor, Pageable page);
 
 }
@@ -2,6 +2,7 @@ package acme.features.patron.patronageReport;
 
 import org.springframework.beans.factory.annotation.Autowired;
 import org.springframework.stereotype.Service;
+import org.springframework.transaction.annotation.Transactional;
 
 import acme.entities.PatronageReport;
 import acme.framework.components.models.Model;
@@ -11,6 +12,7 @@ import acme.framework.services.AbstractShowService;
 import acme.roles.Patron;
 
 @Service
+@Transactional(readOnly = true)
 public class PatronPatronageReportShowService implements AbstractShowService<Patron, PatronageReport> {
 	
 	// Internal state ---------------------------------------------------------
@@ -44,4 +44,7 @@ public class MoneyExchange {
 	
 	public Double rate;
 
+	// Whether the rate is the last known one, served while it is revalidated
+	public boolean	stale;
+
 }
@@ -20,4 +20,8 @@
 	<acme:list-column code="authenticated.announcement.list.label.title" path="title" width="30%"/>
 		<acme:list-column code="authenticated.announcement.list.label.body" path="body" width="50%"/>
 </acme:list>
-<acme:button code="administrator.announcement.list.button.createAnnouncement" action="/administrator/announcement/create"/>
\ No newline at end of file
+<acme:button code="administrator.announcement.list.button.createAnnouncement" action="/administrator/announcement/create"/>
+
+<jstl:if test="${nextCursor != null}">
+	<acme:button code="master.list.button.next-page" action="/administrator/announcement/list?cursor=${nextCursor}"/>
+</jstl:if>
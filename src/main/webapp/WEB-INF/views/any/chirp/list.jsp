@@ -25,4 +25,8 @@
  	
  </acme:list>
  
-<acme:button code="any.chirp.list.button.create" action="/any/chirp/create"/>
\ No newline at end of file
+<acme:button code="any.chirp.list.button.create" action="/any/chirp/create"/>
+
+<jstl:if test="${nextCursor != null}">
+	<acme:button code="master.list.button.next-page" action="/any/chirp/list?cursor=${nextCursor}"/>
+</jstl:if>
@@ -15,8 +15,24 @@
 <%@taglib prefix="jstl" uri="http://java.sun.com/jsp/jstl/core"%>
 <%@taglib prefix="acme" uri="urn:jsptagdir:/WEB-INF/tags"%>
 
+<jstl:url var="search" value="/any/item/list"/>
+<form method="get" action="${search}" class="form-inline mb-3">
+	<input type="hidden" name="type" value="<jstl:out value='${type}'/>"/>
+	<input type="search" name="query" value="<jstl:out value='${query}'/>" class="form-control mr-2" placeholder="<acme:message code='any.item.list.label.query'/>"/>
+	<button type="submit" class="btn btn-primary"><acme:message code="any.item.list.button.search"/></button>
+</form>
+
 <acme:list>
 	<acme:list-column code="any.item.list.label.name"  path="name" width="10%"/>
 	<acme:list-column code="any.item.list.label.code" path="code" width="10%"/>
 	<acme:list-column code="any.item.list.label.technology" path="technology" width="20%"/>
 </acme:list>
+
+<jstl:if test="${nextCursor != null}">
+	<jstl:url var="nextPage" value="">
+		<jstl:param name="type" value="${type}"/>
+		<jstl:param name="cursor" value="${nextCursor}"/>
+		<jstl:param name="query" value="${query}"/>
+	</jstl:url>
+	<acme:button code="master.list.button.next-page" action="/any/item/list${nextPage}"/>
+</jstl:if>
@@ -3,9 +3,23 @@
 <%@taglib prefix="jstl" uri="http://java.sun.com/jsp/jstl/core"%>
 <%@taglib prefix="acme" uri="urn:jsptagdir:/WEB-INF/tags"%>
 
+<jstl:url var="search" value="/any/toolkit/list"/>
+<form method="get" action="${search}" class="form-inline mb-3">
+	<input type="search" name="query" value="<jstl:out value='${query}'/>" class="form-control mr-2" placeholder="<acme:message code='any.toolkit.list.label.query'/>"/>
+	<button type="submit" class="btn btn-primary"><acme:message code="any.toolkit.list.button.search"/></button>
+</form>
+
 <acme:list>
 	<acme:list-column code="any.toolkit.list.label.code" path="code" width="10%"/>
 	<acme:list-column code="any.toolkit.list.label.title" path="title" width="10%"/>
 	<acme:list-column code="any.toolkit.list.label.description" path="description" width="80%"/>
 	<acme:list-payload path="payload"/>
 </acme:list>
+
+<jstl:if test="${nextCursor != null}">
+	<jstl:url var="nextPage" value="">
+		<jstl:param name="cursor" value="${nextCursor}"/>
+		<jstl:param name="query" value="${query}"/>
+	</jstl:url>
+	<acme:button code="master.list.button.next-page" action="/any/toolkit/list${nextPage}"/>
+</jstl:if>
@@ -21,4 +21,6 @@
 	<acme:list-column code="authenticated.announcement.list.label.title" path="title" width="70%"/>
 </acme:list>
 
-
+<jstl:if test="${nextCursor != null}">
+	<acme:button code="master.list.button.next-page" action="/authenticated/announcement/list?cursor=${nextCursor}"/>
+</jstl:if>
@@ -34,3 +34,11 @@
 	<acme:button code="inventor.item.list.button.create"
 		action="/inventor/item/create?type=COMPONENT" />
 </jstl:if>
+
+<jstl:if test="${nextCursor != null}">
+	<jstl:url var="nextPage" value="">
+		<jstl:param name="type" value="${type}"/>
+		<jstl:param name="cursor" value="${nextCursor}"/>
+	</jstl:url>
+	<acme:button code="master.list.button.next-page" action="/inventor/item/list${nextPage}"/>
+</jstl:if>
@@ -19,4 +19,8 @@
 	<acme:list-column code="inventor.patronage-report.list.label.sequenceNumber" path="sequenceNumber" width="50%"/>
 	<acme:list-column code="inventor.patronage-report.list.label.patronage.code" path="patronage.code" width="50%"/>
 	
-</acme:list>
\ No newline at end of file
+</acme:list>
+
+<jstl:if test="${nextCursor != null}">
+	<acme:button code="master.list.button.next-page" action="/inventor/patronage-report/list?cursor=${nextCursor}"/>
+</jstl:if>
@@ -26,4 +26,8 @@
  	<acme:list-column code="inventor.patronage.list.label.legalStuff" path="legalStuff" width="0%"/>
  	<acme:list-column code="inventor.patronage.list.label.moreInfo" path="moreInfo" width="0%"/>
 
- </acme:list> 
\ No newline at end of file
+ </acme:list> 
+
+<jstl:if test="${nextCursor != null}">
+	<acme:button code="master.list.button.next-page" action="/inventor/patronage/list?cursor=${nextCursor}"/>
+</jstl:if>
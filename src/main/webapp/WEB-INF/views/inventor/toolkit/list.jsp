@@ -24,4 +24,8 @@
 	
 </acme:list>
 
-<acme:button code="inventor.toolkit.list.button.create" action="/inventor/toolkit/create"/>
\ No newline at end of file
+<acme:button code="inventor.toolkit.list.button.create" action="/inventor/toolkit/create"/>
+
+<jstl:if test="${nextCursor != null}">
+	<acme:button code="master.list.button.next-page" action="/inventor/toolkit/list?cursor=${nextCursor}"/>
+</jstl:if>
@@ -31,4 +31,8 @@
  
 <jstl:if test="${command == 'list-mine'}">
     <acme:button code="patron.patronage.list.button.create" action="/patron/patronage/create"/>
-</jstl:if>
\ No newline at end of file
+</jstl:if>
+
+<jstl:if test="${nextCursor != null}">
+	<acme:button code="master.list.button.next-page" action="/patron/patronage/list-mine?cursor=${nextCursor}"/>
+</jstl:if>
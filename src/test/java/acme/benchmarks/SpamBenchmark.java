@@ -0,0 +1,306 @@
+/*
+ * SpamBenchmark.java
+ *
+ * Copyright (C) 2012-2022 Rafael Corchuelo.
+ *
+ * In keeping with the traditional purpose of furthering education and research, it is
+ * the policy of the copyright owner to permit non-commercial use and redistribution of
+ * this software. It has been tested carefully, but it is not guaranteed for any particular
+ * purposes. The copyright owner does not offer any warranties or representations, nor do
+ * they accept any liabilities with respect to them.
+ */
+
+package acme.benchmarks;
+
+import java.io.IOException;
+import java.io.Reader;
+import java.nio.charset.StandardCharsets;
+import java.nio.file.Files;
+import java.nio.file.Paths;
+import java.util.ArrayList;
+import java.util.Arrays;
+import java.util.List;
+import java.util.Locale;
+import java.util.Random;
+import java.util.concurrent.TimeUnit;
+
+import org.openjdk.jmh.annotations.Benchmark;
+import org.openjdk.jmh.annotations.BenchmarkMode;
+import org.openjdk.jmh.annotations.Fork;
+import org.openjdk.jmh.annotations.Level;
+import org.openjdk.jmh.annotations.Measurement;
+import org.openjdk.jmh.annotations.Mode;
+import org.openjdk.jmh.annotations.OutputTimeUnit;
+import org.openjdk.jmh.annotations.Param;
+import org.openjdk.jmh.annotations.Scope;
+import org.openjdk.jmh.annotations.Setup;
+import org.openjdk.jmh.annotations.State;
+import org.openjdk.jmh.annotations.Warmup;
+import org.openjdk.jmh.profile.GCProfiler;
+import org.openjdk.jmh.runner.Runner;
+import org.openjdk.jmh.runner.RunnerException;
+import org.openjdk.jmh.runner.options.OptionsBuilder;
+
+import com.opencsv.CSVReader;
+import com.opencsv.exceptions.CsvException;
+
+import acme.components.SpamMatcher;
+import acme.features.spam.SpamDetector;
+
+/**
+ * Cost of a spam check of a single field, with the spam detector of
+ * libs/Spam.jar and with the compiled SpamMatcher, plus the cost of compiling
+ * the term lists. Texts come either from random words or from the text
+ * columns of the sample data, and are cut to the length limits of the
+ * entities and beyond. The lists are the sample ones, padded with synthetic
+ * terms up to the requested count.
+ *
+ * Results are reported as operations per second, and the GC profiler adds
+ * the allocation rate. Run the main method, or use the JMH runner with a
+ * regular expression on this class name.
+ *
+ * The spam detector loops forever on a text that contains a term twice, so
+ * the texts contain every term once at most.
+ */
+@State(Scope.Thread)
+@BenchmarkMode(Mode.Throughput)
+@OutputTimeUnit(TimeUnit.SECONDS)
+@Warmup(iterations = 3, time = 1)
+@Measurement(iterations = 5, time = 1)
+@Fork(1)
+public class SpamBenchmark {
+
+	// Constants --------------------------------------------------------------
+
+	protected static final String	SAMPLE_DATA		= "src/main/webapp/WEB-INF/resources/sample-data/";
+
+	protected static final String	STRONG_SPAM		= "sex;hard core;sexo;extremo;viagra;cialis";
+
+	protected static final String	WEAK_SPAM		= "sexy;nigeria;you’ve won;has ganado;one million;un millon";
+
+	// Sample files and the columns in them that are checked for spam
+	protected static final String[][]	SAMPLE_TEXTS	= {
+		{
+			"chirp.csv", "title", "author", "body", "email"
+		}, {
+			"announcement.csv", "title", "body", "email", "more-info"
+		}, {
+			"item.csv", "name", "technology", "description", "more-info"
+		}, {
+			"toolkit.csv", "title", "description", "assembly-notes", "more-info"
+		}, {
+			"patronage.csv", "legal-stuff", "more-info"
+		}, {
+			"patronage-report.csv", "memorandum", "more-info"
+		}, {
+			"chimpum.csv", "title", "description"
+		}
+	};
+
+	protected static final int		TEXTS			= 256;
+
+	protected static final int		ATTEMPTS		= 100;
+
+	// Parameters -------------------------------------------------------------
+
+	@Param({
+		"synthetic", "sample"
+	})
+	protected String				corpus;
+
+	@Param({
+		"100", "255", "1000", "10000"
+	})
+	protected int					textLength;
+
+	@Param({
+		"12", "100", "1000"
+	})
+	protected int					termCount;
+
+	@Param({
+		"0.01", "0.1", "0.25"
+	})
+	protected double				threshold;
+
+	// Internal state ---------------------------------------------------------
+
+	protected String				strongTerms;
+
+	protected String				weakTerms;
+
+	protected List<String>			strongList;
+
+	protected List<String>			weakList;
+
+	protected SpamMatcher			matcher;
+
+	protected String[]				texts;
+
+	protected int					next;
+
+	// Launcher ---------------------------------------------------------------
+
+
+	public static void main(final String[] args) throws RunnerException {
+		new Runner(new OptionsBuilder().include(SpamBenchmark.class.getSimpleName()).addProfiler(GCProfiler.class).build()).run();
+	}
+
+	// Lifecycle --------------------------------------------------------------
+
+
+	@Setup(Level.Trial)
+	public void setUp() throws IOException, CsvException {
+		final Random random = new Random(42);
+		final StringBuilder strong = new StringBuilder(SpamBenchmark.STRONG_SPAM);
+		final StringBuilder weak = new StringBuilder(SpamBenchmark.WEAK_SPAM);
+		final List<String> words;
+		final List<String> terms;
+
+		for (int i = 12; i < this.termCount; i++)
+			(i % 2 == 0 ? strong : weak).append(String.format(";spam term %04d", i));
+		this.strongTerms = strong.toString();
+		this.weakTerms = weak.toString();
+		this.strongList = Arrays.asList(this.strongTerms.split(";"));
+		this.weakList = Arrays.asList(this.weakTerms.split(";"));
+		this.matcher = new SpamMatcher(0, this.strongTerms, this.threshold, this.weakTerms, this.threshold);
+
+		terms = new ArrayList<>(this.strongList);
+		terms.addAll(this.weakList);
+		words = SpamBenchmark.withoutTerms(this.corpus.equals("sample") ? SpamBenchmark.readSampleWords() : SpamBenchmark.generateWords(random), terms);
+
+		this.texts = new String[SpamBenchmark.TEXTS];
+		for (int i = 0; i < SpamBenchmark.TEXTS; i++)
+			this.texts[i] = this.composeText(words, terms, random);
+		this.next = 0;
+	}
+
+	// Benchmarks -------------------------------------------------------------
+
+
+	@Benchmark
+	public boolean detector() {
+		final String text = this.nextText();
+
+		return SpamDetector.validateNoSpam(text, this.weakList, this.threshold) && SpamDetector.validateNoSpam(text, this.strongList, this.threshold);
+	}
+
+	@Benchmark
+	public boolean matcher() {
+		return !this.matcher.isSpam(this.nextText());
+	}
+
+	@Benchmark
+	public SpamMatcher compile() {
+		return new SpamMatcher(0, this.strongTerms, this.threshold, this.weakTerms, this.threshold);
+	}
+
+	// Ancillary methods ------------------------------------------------------
+
+
+	protected String nextText() {
+		final String result = this.texts[this.next];
+
+		this.next = (this.next + 1) % this.texts.length;
+
+		return result;
+	}
+
+	protected String composeText(final List<String> words, final List<String> terms, final Random random) {
+		final StringBuilder result = new StringBuilder(this.textLength);
+		int spamTerms;
+
+		// The words contain no term, but a term may still span two words or
+		// contain another one, so a text is composed again when it repeats
+		// a term, a bounded number of times
+		for (int attempt = 0; attempt < SpamBenchmark.ATTEMPTS; attempt++) {
+			result.setLength(0);
+
+			// About a quarter of the texts carry a few spam terms, one of each
+			spamTerms = random.nextInt(4) == 0 ? 1 + random.nextInt(3) : 0;
+			for (int i = 0; i < spamTerms; i++)
+				result.append(terms.get(random.nextInt(terms.size()))).append(' ');
+
+			while (result.length() < this.textLength)
+				result.append(words.get(random.nextInt(words.size()))).append(' ');
+			result.setLength(this.textLength);
+
+			if (SpamBenchmark.hasNoRepeatedTerms(result.toString(), terms))
+				return result.toString();
+		}
+
+		throw new IllegalStateException(String.format("No text of %d characters without repeated terms in %d attempts", this.textLength, SpamBenchmark.ATTEMPTS));
+	}
+
+	protected static boolean hasNoRepeatedTerms(final String text, final List<String> terms) {
+		final String normalised = text.replace(" ", "").replace("\n", "n").toLowerCase().trim();
+		String term;
+		int first;
+
+		for (final String t : terms) {
+			term = t.replace(" ", "").toLowerCase().trim();
+			first = normalised.indexOf(term);
+			if (term.isEmpty() || first >= 0 && normalised.indexOf(term, first + 1) >= 0)
+				return false;
+		}
+
+		return true;
+	}
+
+	protected static List<String> withoutTerms(final List<String> words, final List<String> terms) {
+		final List<String> result = new ArrayList<>();
+		String normalised;
+		boolean clean;
+
+		for (final String word : words) {
+			normalised = word.replace(" ", "").replace("\n", "n").toLowerCase().trim();
+			clean = true;
+			for (int i = 0; clean && i < terms.size(); i++)
+				clean = !normalised.contains(terms.get(i).replace(" ", "").toLowerCase().trim());
+			if (clean)
+				result.add(word);
+		}
+
+		return result;
+	}
+
+	protected static List<String> generateWords(final Random random) {
+		final List<String> result = new ArrayList<>();
+		final StringBuilder word = new StringBuilder();
+
+		for (int i = 0; i < 1000; i++) {
+			word.setLength(0);
+			for (int j = 2 + random.nextInt(8); j > 0; j--)
+				word.append((char) ('a' + random.nextInt(26)));
+			result.add(word.toString());
+		}
+
+		return result;
+	}
+
+	protected static List<String> readSampleWords() throws IOException, CsvException {
+		final List<String> result = new ArrayList<>();
+		List<String[]> rows;
+		List<String> header;
+		int column;
+
+		for (final String[] sample : SpamBenchmark.SAMPLE_TEXTS)
+			try (Reader reader = Files.newBufferedReader(Paths.get(SpamBenchmark.SAMPLE_DATA, sample[0]), StandardCharsets.UTF_8); CSVReader csv = new CSVReader(reader)) {
+				rows = csv.readAll();
+				header = Arrays.asList(rows.get(0));
+				for (int i = 1; i < sample.length; i++) {
+					column = header.indexOf(sample[i]);
+					for (final String[] row : rows.subList(1, rows.size()))
+						if (column < row.length && !row[column].equals("null"))
+							for (final String word : row[column].toLowerCase(Locale.ROOT).split("\\s+"))
+								if (!word.isEmpty())
+									result.add(word);
+				}
+			}
+
+		assert !result.isEmpty();
+
+		return result;
+	}
+
+}
@@ -0,0 +1,357 @@
+/*
+ * DashboardStatisticsServiceTest.java
+ *
+ * Copyright (C) 2012-2022 Rafael Corchuelo.
+ *
+ * In keeping with the traditional purpose of furthering education and research, it is
+ * the policy of the copyright owner to permit non-commercial use and redistribution of
+ * this software. It has been tested carefully, but it is not guaranteed for any particular
+ * purposes. The copyright owner does not offer any warranties or representations, nor do
+ * they accept any liabilities with respect to them.
+ */
+
+package acme.components;
+
+import java.lang.reflect.Proxy;
+import java.util.ArrayList;
+import java.util.Collections;
+import java.util.Comparator;
+import java.util.HashMap;
+import java.util.List;
+import java.util.Map;
+import java.util.Random;
+import java.util.TreeMap;
+import java.util.stream.Collectors;
+
+import org.junit.jupiter.api.Assertions;
+import org.junit.jupiter.api.BeforeEach;
+import org.junit.jupiter.api.Test;
+
+import acme.entities.Chimpum;
+import acme.entities.DashboardStatistic;
+import acme.entities.Item;
+import acme.framework.datatypes.Money;
+import acme.framework.entities.AbstractEntity;
+
+/**
+ * Checks that the chimpum statistics kept on line by DashboardStatisticsService
+ * match the ones computed from scratch after random sequences of creations,
+ * updates and deletions of chimpums and items, run the way the services run
+ * them. The repository is an in-memory stand-in that answers the queries the
+ * service issues from the items and chimpums of the test, and keeps apart the
+ * budgets stored for the chimpums from the ones bound to them.
+ */
+public class DashboardStatisticsServiceTest {
+
+	// Constants --------------------------------------------------------------
+
+	protected static final String[]			CURRENCIES	= {
+		"EUR", "USD", "GBP"
+	};
+
+	protected static final int				ITEMS		= 20;
+
+	protected static final int				STEPS		= 2000;
+
+	protected static final double			TOLERANCE	= 1e-6;
+
+	// Internal state ---------------------------------------------------------
+
+	protected DashboardStatisticsService	service;
+
+	protected List<Item>					items;
+
+	protected List<Chimpum>					chimpums;
+
+	protected Map<Integer, Money>			stored;
+
+	protected List<DashboardStatistic>		rows;
+
+	protected Random						random;
+
+	protected int							lastId;
+
+	// Lifecycle --------------------------------------------------------------
+
+
+	@BeforeEach
+	public void setUp() {
+		Item item;
+
+		this.items = new ArrayList<>();
+		this.chimpums = new ArrayList<>();
+		this.stored = new HashMap<>();
+		this.rows = new ArrayList<>();
+		this.random = new Random(42);
+		this.lastId = 0;
+
+		this.service = new DashboardStatisticsService();
+		this.service.repository = this.createRepository();
+
+		for (int i = 0; i < DashboardStatisticsServiceTest.ITEMS; i++) {
+			item = new Item();
+			item.setId(++this.lastId);
+			this.items.add(item);
+		}
+	}
+
+	// Test cases -------------------------------------------------------------
+
+
+	@Test
+	public void chimpumStatisticsTest() {
+		int operation;
+
+		for (int step = 0; step < DashboardStatisticsServiceTest.STEPS; step++) {
+			operation = this.random.nextInt(5);
+			if (operation == 0)
+				this.createChimpum();
+			else if (operation == 1)
+				this.updateChimpum();
+			else if (operation == 2)
+				this.deleteChimpum();
+			else if (operation == 3)
+				this.deleteItem();
+			else
+				this.createItem();
+
+			this.checkChimpumStatistics(step);
+		}
+	}
+
+	@Test
+	public void unlinkedChimpumTest() {
+		final Chimpum chimpum;
+
+		// A chimpum whose item is gone is not counted, whatever is done to it
+		chimpum = this.newChimpum();
+		this.chimpums.add(chimpum);
+		this.stored.put(chimpum.getId(), chimpum.getBudget());
+		this.service.addChimpum(chimpum);
+		this.checkChimpumStatistics(0);
+
+		chimpum.setBudget(this.newMoney());
+		this.service.removeChimpum(chimpum);
+		this.stored.put(chimpum.getId(), chimpum.getBudget());
+		this.service.addChimpum(chimpum);
+		this.checkChimpumStatistics(1);
+
+		Assertions.assertTrue(this.service.getChimpumStatistics().isEmpty());
+	}
+
+	// Ancillary methods ------------------------------------------------------
+
+
+	// As InventorChimpumCreateService does it
+	protected void createChimpum() {
+		final List<Item> candidates = this.items.stream().filter(item -> item.getChimpum() == null).collect(Collectors.toList());
+		final Chimpum chimpum;
+		final Item item;
+
+		if (candidates.isEmpty())
+			return;
+
+		item = candidates.get(this.random.nextInt(candidates.size()));
+		chimpum = this.newChimpum();
+		this.chimpums.add(chimpum);
+		this.stored.put(chimpum.getId(), chimpum.getBudget());
+		item.setChimpum(chimpum);
+		this.service.addChimpum(chimpum);
+	}
+
+	// As InventorChimpumUpdateService does it: the new budget is bound first,
+	// and the statistics are updated only if the request is valid; otherwise
+	// the transaction is rolled back and the stored budget is left
+	protected void updateChimpum() {
+		final Chimpum chimpum;
+
+		if (this.chimpums.isEmpty())
+			return;
+
+		chimpum = this.chimpums.get(this.random.nextInt(this.chimpums.size()));
+		chimpum.setBudget(this.newMoney());
+		if (this.random.nextBoolean()) {
+			chimpum.setBudget(this.stored.get(chimpum.getId()));
+			return;
+		}
+
+		this.service.removeChimpum(chimpum);
+		this.stored.put(chimpum.getId(), chimpum.getBudget());
+		this.service.addChimpum(chimpum);
+	}
+
+	// As InventorChimpumDeleteService does it
+	protected void deleteChimpum() {
+		final Chimpum chimpum;
+
+		if (this.chimpums.isEmpty())
+			return;
+
+		chimpum = this.chimpums.get(this.random.nextInt(this.chimpums.size()));
+		this.service.removeChimpum(chimpum);
+		for (final Item item : this.items)
+			if (item.getChimpum() == chimpum)
+				item.setChimpum(null);
+		this.chimpums.remove(chimpum);
+		this.stored.remove(chimpum.getId());
+	}
+
+	// As InventorItemDeleteService does it, for the chimpums; the chimpum of
+	// the item is left behind, with no item, and may be updated later on
+	protected void deleteItem() {
+		final Item item;
+
+		if (this.items.isEmpty())
+			return;
+
+		item = this.items.get(this.random.nextInt(this.items.size()));
+		if (item.getChimpum() != null)
+			this.service.removeChimpum(item.getChimpum());
+		this.items.remove(item);
+	}
+
+	protected void createItem() {
+		final Item item;
+
+		item = new Item();
+		item.setId(++this.lastId);
+		this.items.add(item);
+	}
+
+	protected void checkChimpumStatistics(final int step) {
+		final Map<String, RunningStatistics> expected = new TreeMap<>();
+		final Map<String, RunningStatistics> actual;
+		RunningStatistics statistics;
+
+		for (final Item item : this.items)
+			if (item.getChimpum() != null)
+				expected.computeIfAbsent(item.getChimpum().getBudget().getCurrency(), currency -> new RunningStatistics()).add(item.getChimpum().getBudget().getAmount());
+
+		actual = this.service.getChimpumStatistics();
+		Assertions.assertEquals(expected.keySet(), new TreeMap<>(actual).keySet(), String.format("currencies after step %d", step));
+		for (final Map.Entry<String, RunningStatistics> entry : expected.entrySet()) {
+			statistics = actual.get(entry.getKey());
+			Assertions.assertEquals(entry.getValue().getCount(), statistics.getCount(), String.format("count of %s after step %d", entry.getKey(), step));
+			DashboardStatisticsServiceTest.assertClose(entry.getValue().getMean(), statistics.getMean(), String.format("average of %s after step %d", entry.getKey(), step));
+			DashboardStatisticsServiceTest.assertClose(entry.getValue().getSquaredDeviations(), statistics.getSquaredDeviations(), String.format("deviation of %s after step %d", entry.getKey(), step));
+			DashboardStatisticsServiceTest.assertClose(entry.getValue().getMinimum(), statistics.getMinimum(), String.format("minimum of %s after step %d", entry.getKey(), step));
+			DashboardStatisticsServiceTest.assertClose(entry.getValue().getMaximum(), statistics.getMaximum(), String.format("maximum of %s after step %d", entry.getKey(), step));
+		}
+	}
+
+	protected static void assertClose(final double expected, final double actual, final String message) {
+		// Removing values accumulates rounding errors, relative to the values
+		Assertions.assertEquals(expected, actual, DashboardStatisticsServiceTest.TOLERANCE * Math.max(1.0, Math.abs(expected)), message);
+	}
+
+	protected Chimpum newChimpum() {
+		final Chimpum result = new Chimpum();
+
+		result.setId(++this.lastId);
+		result.setBudget(this.newMoney());
+
+		return result;
+	}
+
+	protected Money newMoney() {
+		final Money result = new Money();
+
+		result.setCurrency(DashboardStatisticsServiceTest.CURRENCIES[this.random.nextInt(DashboardStatisticsServiceTest.CURRENCIES.length)]);
+		result.setAmount(this.random.nextInt(100000) / 100.0);
+
+		return result;
+	}
+
+	protected Item findItem(final int chimpumId) {
+		for (final Item item : this.items)
+			if (item.getChimpum() != null && item.getChimpum().getId() == chimpumId)
+				return item;
+
+		return null;
+	}
+
+	// Answers the queries of the service from the items and chimpums of the test
+	protected DashboardStatisticsRepository createRepository() {
+		return (DashboardStatisticsRepository) Proxy.newProxyInstance(DashboardStatisticsRepository.class.getClassLoader(), new Class<?>[] {
+			DashboardStatisticsRepository.class
+		}, (proxy, method, args) -> {
+			final Object result;
+
+			switch (method.getName()) {
+			case "findStatisticsForUpdate":
+				result = this.rows.stream() //
+					.filter(row -> row.getKind() == args[0] && row.getPatronId() == (Integer) args[1] && row.getStatus().equals(args[2]) && row.getItemType().equals(args[3]) && row.getTechnology().equals(args[4]) && row.getCurrency().equals(args[5])) //
+					.sorted(Comparator.comparingLong(DashboardStatistic::getSampleSize).reversed()) //
+					.collect(Collectors.toList());
+				break;
+			case "findStatisticsByKind":
+				result = this.rows.stream().filter(row -> row.getKind() == args[0]).sorted(Comparator.comparing(DashboardStatistic::getCurrency)).collect(Collectors.toList());
+				break;
+			case "findChimpumBudgetBounds":
+				result = Collections.singletonList(this.findChimpumBudgetBounds((String) args[0], (Integer) args[1]));
+				break;
+			case "findStoredChimpum":
+				result = this.findStoredChimpum((Integer) args[0]);
+				break;
+			case "countItemsByChimpumId":
+				result = this.findItem((Integer) args[0]) == null ? 0L : 1L;
+				break;
+			case "save":
+				if (((AbstractEntity) args[0]).getId() == 0)
+					((AbstractEntity) args[0]).setId(++this.lastId);
+				if (this.rows.stream().noneMatch(row -> row == args[0]))
+					this.rows.add((DashboardStatistic) args[0]);
+				result = args[0];
+				break;
+			case "delete":
+				this.rows.removeIf(row -> row == args[0]);
+				result = null;
+				break;
+			case "hashCode":
+				result = System.identityHashCode(proxy);
+				break;
+			case "equals":
+				result = proxy == args[0];
+				break;
+			case "toString":
+				result = "DashboardStatisticsRepository";
+				break;
+			default:
+				throw new UnsupportedOperationException(method.getName());
+			}
+
+			return result;
+		});
+	}
+
+	protected List<Object[]> findStoredChimpum(final int id) {
+		final Money budget;
+
+		if (this.findItem(id) == null)
+			return Collections.emptyList();
+
+		budget = this.stored.get(id);
+		return Collections.singletonList(new Object[] {
+			budget.getCurrency(), budget.getAmount()
+		});
+	}
+
+	protected Object[] findChimpumBudgetBounds(final String currency, final int id) {
+		Double minimum, maximum;
+		double amount;
+
+		minimum = null;
+		maximum = null;
+		for (final Item item : this.items)
+			if (item.getChimpum() != null && item.getChimpum().getId() != id && item.getChimpum().getBudget().getCurrency().equals(currency)) {
+				amount = item.getChimpum().getBudget().getAmount();
+				minimum = minimum == null ? amount : Math.min(minimum, amount);
+				maximum = maximum == null ? amount : Math.max(maximum, amount);
+			}
+
+		return new Object[] {
+			minimum, maximum
+		};
+	}
+
+}
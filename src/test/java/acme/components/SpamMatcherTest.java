@@ -0,0 +1,65 @@
+/*
+ * SpamMatcherTest.java
+ *
+ * Copyright (C) 2012-2022 Rafael Corchuelo.
+ *
+ * In keeping with the traditional purpose of furthering education and research, it is
+ * the policy of the copyright owner to permit non-commercial use and redistribution of
+ * this software. It has been tested carefully, but it is not guaranteed for any particular
+ * purposes. The copyright owner does not offer any warranties or representations, nor do
+ * they accept any liabilities with respect to them.
+ */
+
+package acme.components;
+
+import java.util.Arrays;
+import java.util.List;
+
+import org.junit.jupiter.api.Assertions;
+import org.junit.jupiter.params.ParameterizedTest;
+import org.junit.jupiter.params.provider.CsvFileSource;
+
+import acme.features.spam.SpamDetector;
+
+/**
+ * Checks that SpamMatcher tells the same as the spam detector of
+ * libs/Spam.jar on the sample lists: terms inside other words, mixed case,
+ * terms with blanks, terms that overlap, and scores around the thresholds of
+ * the strong and the weak lists.
+ *
+ * The spam detector loops forever on a text that contains a term twice, so
+ * no text in the table does.
+ */
+public class SpamMatcherTest {
+
+	// Constants --------------------------------------------------------------
+
+	protected static final String	STRONG_SPAM			= "sex;hard core;sexo;extremo;viagra;cialis";
+
+	protected static final double	STRONG_THRESHOLD	= 0.10;
+
+	protected static final String	WEAK_SPAM			= "sexy;nigeria;you’ve won;has ganado;one million;un millon";
+
+	protected static final double	WEAK_THRESHOLD		= 0.25;
+
+	// Internal state ---------------------------------------------------------
+
+	protected final SpamMatcher		matcher				= new SpamMatcher(0, SpamMatcherTest.STRONG_SPAM, SpamMatcherTest.STRONG_THRESHOLD, SpamMatcherTest.WEAK_SPAM, SpamMatcherTest.WEAK_THRESHOLD);
+
+	// Test cases -------------------------------------------------------------
+
+
+	@ParameterizedTest
+	@CsvFileSource(resources = "/spam/agreement.csv", encoding = "utf-8", numLinesToSkip = 1)
+	public void agreementTest(final int recordIndex, final String text, final boolean spam) {
+		final List<String> strongTerms = Arrays.asList(SpamMatcherTest.STRONG_SPAM.split(";"));
+		final List<String> weakTerms = Arrays.asList(SpamMatcherTest.WEAK_SPAM.split(";"));
+		final boolean detected;
+
+		detected = !(SpamDetector.validateNoSpam(text, strongTerms, SpamMatcherTest.STRONG_THRESHOLD) && SpamDetector.validateNoSpam(text, weakTerms, SpamMatcherTest.WEAK_THRESHOLD));
+
+		Assertions.assertEquals(detected, this.matcher.isSpam(text), String.format("record %d", recordIndex));
+		Assertions.assertEquals(spam, detected, String.format("record %d", recordIndex));
+	}
+
+}
@@ -0,0 +1,225 @@
+/*
+ * ToolkitPriceServiceTest.java
+ *
+ * Copyright (C) 2012-2022 Rafael Corchuelo.
+ *
+ * In keeping with the traditional purpose of furthering education and research, it is
+ * the policy of the copyright owner to permit non-commercial use and redistribution of
+ * this software. It has been tested carefully, but it is not guaranteed for any particular
+ * purposes. The copyright owner does not offer any warranties or representations, nor do
+ * they accept any liabilities with respect to them.
+ */
+
+package acme.components;
+
+import java.lang.reflect.Proxy;
+import java.util.ArrayList;
+import java.util.Collection;
+import java.util.Date;
+import java.util.HashMap;
+import java.util.List;
+import java.util.Map;
+
+import org.junit.jupiter.api.Assertions;
+import org.junit.jupiter.api.BeforeEach;
+import org.junit.jupiter.api.Test;
+
+import acme.entities.Item;
+import acme.entities.Toolkit;
+import acme.forms.MoneyExchange;
+import acme.framework.datatypes.Money;
+
+/**
+ * Checks that a toolkit is left without a total when one of its lines is in
+ * a currency that has no rate and no converted price yet, instead of being
+ * stored with the sum of the other lines. The repository, the exchange
+ * service and the configuration cache are in-memory stand-ins.
+ */
+public class ToolkitPriceServiceTest {
+
+	// Constants --------------------------------------------------------------
+
+	protected static final String		SYSTEM_CURRENCY	= "EUR";
+
+	protected static final double		TOLERANCE		= 1e-9;
+
+	// Internal state ---------------------------------------------------------
+
+	protected ToolkitPriceService		service;
+
+	protected List<ToolkitPriceLine>	lines;
+
+	protected Map<String, Double>		rates;
+
+	protected List<Object>				saved;
+
+	// Lifecycle --------------------------------------------------------------
+
+
+	@BeforeEach
+	public void setUp() {
+		this.lines = new ArrayList<>();
+		this.rates = new HashMap<>();
+		this.saved = new ArrayList<>();
+
+		this.service = new ToolkitPriceService();
+		this.service.repository = this.createRepository();
+		this.service.exchangeService = this.createExchangeService();
+		this.service.configurationCache = new SystemConfigurationCache() {
+
+			@Override
+			public String getSystemCurrency() {
+				return ToolkitPriceServiceTest.SYSTEM_CURRENCY;
+			}
+		};
+	}
+
+	// Test cases -------------------------------------------------------------
+
+
+	@Test
+	public void repriceWithRatesTest() {
+		final Toolkit toolkit = new Toolkit();
+
+		this.lines.add(new ToolkitPriceLine(2, 10.0, "EUR", null, null, null));
+		this.lines.add(new ToolkitPriceLine(1, 5.0, "USD", null, null, null));
+		this.rates.put("USD", 0.5);
+
+		this.service.reprice(toolkit);
+
+		Assertions.assertTrue(this.service.isPriced(toolkit));
+		Assertions.assertEquals(22.5, toolkit.getTotalPrice().getAmount(), ToolkitPriceServiceTest.TOLERANCE);
+		Assertions.assertTrue(this.saved.contains(toolkit));
+	}
+
+	@Test
+	public void repriceWithoutRateTest() {
+		final Toolkit toolkit = new Toolkit();
+
+		toolkit.setTotalPrice(ToolkitPriceServiceTest.newMoney(20.0, "EUR"));
+		this.lines.add(new ToolkitPriceLine(2, 10.0, "EUR", null, null, null));
+		this.lines.add(new ToolkitPriceLine(1, 5.0, "USD", null, null, null));
+
+		this.service.reprice(toolkit);
+
+		Assertions.assertNull(toolkit.getTotalPrice());
+		Assertions.assertFalse(this.service.isPriced(toolkit));
+		Assertions.assertNull(this.service.getTotalPrice(toolkit));
+
+		// Once the rate is known, the next run prices the toolkit
+		this.rates.put("USD", 0.5);
+		this.service.reprice(toolkit);
+
+		Assertions.assertTrue(this.service.isPriced(toolkit));
+		Assertions.assertEquals(22.5, toolkit.getTotalPrice().getAmount(), ToolkitPriceServiceTest.TOLERANCE);
+	}
+
+	@Test
+	public void repriceWithConvertedPriceTest() {
+		final Toolkit toolkit = new Toolkit();
+
+		// A line converted on some earlier day is summed with that price
+		this.lines.add(new ToolkitPriceLine(2, 10.0, "EUR", null, null, null));
+		this.lines.add(new ToolkitPriceLine(1, 5.0, "USD", 4.0, "EUR", new Date(0L)));
+
+		this.service.reprice(toolkit);
+
+		Assertions.assertTrue(this.service.isPriced(toolkit));
+		Assertions.assertEquals(24.0, toolkit.getTotalPrice().getAmount(), ToolkitPriceServiceTest.TOLERANCE);
+	}
+
+	@Test
+	public void addItemWithoutRateTest() {
+		final Toolkit toolkit = new Toolkit();
+		final Item item = new Item();
+
+		toolkit.setTotalPrice(ToolkitPriceServiceTest.newMoney(20.0, "EUR"));
+		item.setRetailPrice(ToolkitPriceServiceTest.newMoney(5.0, "USD"));
+
+		this.service.addItem(toolkit, item, 1);
+
+		Assertions.assertNull(toolkit.getTotalPrice());
+		Assertions.assertTrue(this.saved.contains(toolkit));
+	}
+
+	// Ancillary methods ------------------------------------------------------
+
+
+	protected ToolkitPriceRepository createRepository() {
+		return (ToolkitPriceRepository) Proxy.newProxyInstance(ToolkitPriceRepository.class.getClassLoader(), new Class<?>[] {
+			ToolkitPriceRepository.class
+		}, (proxy, method, args) -> {
+			final Object result;
+
+			switch (method.getName()) {
+			case "findPriceLinesOfToolkit":
+				result = this.lines;
+				break;
+			case "updateConvertedPricesOfToolkit":
+				result = 0;
+				break;
+			case "save":
+				this.saved.add(args[0]);
+				result = args[0];
+				break;
+			case "hashCode":
+				result = System.identityHashCode(proxy);
+				break;
+			case "equals":
+				result = proxy == args[0];
+				break;
+			case "toString":
+				result = "ToolkitPriceRepository";
+				break;
+			default:
+				throw new UnsupportedOperationException(method.getName());
+			}
+
+			return result;
+		});
+	}
+
+	// As a cold cache does it, a currency with no known rate has no conversion
+	protected MoneyExchangeService createExchangeService() {
+		return new MoneyExchangeService() {
+
+			@Override
+			public MoneyExchange getConversion(final Money source, final String targetCurrency) {
+				final Double rate = ToolkitPriceServiceTest.this.rates.get(source.getCurrency());
+				final MoneyExchange result;
+
+				if (rate == null)
+					return null;
+
+				result = new MoneyExchange();
+				result.setSource(source);
+				result.setTargetCurrency(targetCurrency);
+				result.setTarget(ToolkitPriceServiceTest.newMoney(source.getAmount() * rate, targetCurrency));
+				result.setRate(rate);
+				result.setDate(new Date());
+
+				return result;
+			}
+
+			@Override
+			public Map<String, MoneyExchange> getRates(final Collection<String> sourceCurrencies, final String targetCurrency) {
+				final Map<String, MoneyExchange> result = new HashMap<>();
+
+				for (final String currency : sourceCurrencies)
+					result.put(currency, this.getConversion(ToolkitPriceServiceTest.newMoney(1.0, currency), targetCurrency));
+
+				return result;
+			}
+		};
+	}
+
+	protected static Money newMoney(final double amount, final String currency) {
+		final Money result = new Money();
+
+		result.setAmount(amount);
+		result.setCurrency(currency);
+
+		return result;
+	}
+
+}